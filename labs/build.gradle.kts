@@ -31,6 +31,13 @@ dependencies {
 
 tasks.withType<JavaExec> {
     systemProperty("java.library.path", "/Users/michaelrogers/jep_venv/lib/python3.12/site-packages/jep/")
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+}
+
+// The Vector API is still an incubator module on Java 17; lists.IntSearch only uses it
+// when the module has been added at runtime and otherwise falls back to scalar loops
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
 }
 
 tasks.register<JavaExec>("ckMetrics") {
@@ -57,6 +64,7 @@ val ckVersion = "0.7.0"
 
 tasks.test {
     useJUnitPlatform()
+    jvmArgs("--add-modules", "jdk.incubator.vector")
     finalizedBy(tasks.jacocoTestReport) // Generate JaCoCo report after tests
 }
 
@@ -107,3 +115,58 @@ sourceSets {
     }
 }
 
+
+// JMH benchmarks live in their own source set so they can see the main classes
+// without ending up on the test classpath
+val jmhSourceSet = sourceSets.create("jmh") {
+    java {
+        srcDirs("src/jmh/java")
+    }
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmhSourceSet.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
+val jmhVersion = "1.37"
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Run JMH benchmarks and write JSON results to build/reports/jmh"
+
+    dependsOn(tasks.named(jmhSourceSet.classesTaskName))
+    classpath = jmhSourceSet.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    // e.g. ./gradlew jmh -PjmhIncludes=IntListBenchmark.append -PjmhArgs="-f 1 -wi 2"
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    val includes = (project.findProperty("jmhIncludes") as String?) ?: ".*"
+    val extraArgs = (project.findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+    args = listOf(includes, "-rf", "json", "-rff", resultFile.get().asFile.absolutePath) + extraArgs
+}
+
+tasks.register<JavaExec>("jmhAllocationCheck") {
+    group = "verification"
+    description = "Fail if primitive Range/OddRange iteration allocates per element (JMH GC profiler)"
+
+    dependsOn(tasks.named(jmhSourceSet.classesTaskName))
+    classpath = jmhSourceSet.runtimeClasspath
+    mainClass.set("lists.RangeAllocationBenchmark")
+}
+
+tasks.register<JavaExec>("jmhModelAllocationCheck") {
+    group = "verification"
+    description = "Fail if a model's isGameOver allocates (JMH GC profiler)"
+
+    dependsOn(tasks.named(jmhSourceSet.classesTaskName))
+    classpath = jmhSourceSet.runtimeClasspath
+    mainClass.set("blocks.ModelBenchmark")
+}
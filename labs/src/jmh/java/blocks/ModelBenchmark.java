@@ -0,0 +1,153 @@
+package blocks;
+
+import blocks.BlockShapes.Cell;
+import blocks.BlockShapes.Piece;
+import blocks.BlockShapes.Shape;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// The operations a game or a search calls most, on a half-full board, for each model.
+// ModelSet and Model2dArray log every placement, so the play benchmark includes their printing.
+// main() runs isGameOver with the GC profiler and fails if any model allocates for it
+// (run it with ./gradlew jmhModelAllocationCheck).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    public enum ModelKind {
+        ModelSet(ModelSet::new),
+        Model2dArray(Model2dArray::new),
+        ModelBitboard(ModelBitboard::new);
+
+        private final Supplier<ModelInterface> maker;
+
+        ModelKind(Supplier<ModelInterface> maker) {
+            this.maker = maker;
+        }
+
+        public ModelInterface create() {
+            return maker.get();
+        }
+    }
+
+    @Param
+    public ModelKind kind;
+
+    private List<Shape> shapes;
+    private List<Piece> moves; // a fixed random game, replayed by play()
+    private ModelInterface board;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        shapes = new BlockShapes.ShapeSet().getShapes();
+        SplittableRandom random = new SplittableRandom(21);
+        moves = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            Shape shape = shapes.get(random.nextInt(shapes.size()));
+            moves.add(new Piece(shape, new Cell(random.nextInt(ModelInterface.width), random.nextInt(ModelInterface.height))));
+        }
+        // fill about half the board without completing any region
+        board = kind.create();
+        for (Piece move : moves) {
+            if (board.getOccupiedCells().size() >= 40) {
+                break;
+            }
+            if (board.canPlace(move) && board.getPoppableRegions(move).isEmpty()) {
+                board.place(move);
+            }
+        }
+    }
+
+    // Every shape at every anchor, as a move generator would try them
+    @Benchmark
+    public int canPlaceSweep() {
+        int legal = 0;
+        for (Shape shape : shapes) {
+            for (int x = 0; x < ModelInterface.width; x++) {
+                for (int y = 0; y < ModelInterface.height; y++) {
+                    if (board.canPlace(new Piece(shape, new Cell(x, y)))) {
+                        legal++;
+                    }
+                }
+            }
+        }
+        return legal;
+    }
+
+    @Benchmark
+    public boolean isGameOver() {
+        return board.isGameOver(shapes);
+    }
+
+    @Benchmark
+    public int legalPlacements() {
+        int legal = 0;
+        for (Shape shape : shapes) {
+            legal += board.legalPlacements(shape).size();
+        }
+        return legal;
+    }
+
+    @Benchmark
+    public int poppableRegions() {
+        int regions = 0;
+        for (Piece move : moves) {
+            regions += board.getPoppableRegions(move).size();
+        }
+        return regions;
+    }
+
+    // A fresh board playing the same moves, skipping the ones that do not fit
+    @Benchmark
+    public ModelInterface play() {
+        ModelInterface model = kind.create();
+        for (Piece move : moves) {
+            if (model.canPlace(move)) {
+                model.place(move);
+            }
+        }
+        return model;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ModelBenchmark.class.getSimpleName() + ".isGameOver")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .forks(1)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        boolean failed = false;
+        for (RunResult result : results) {
+            Result alloc = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            String kind = result.getParams().getParam("kind");
+            System.out.printf("%s: %.2f bytes allocated per isGameOver%n", kind, alloc.getScore());
+            // anything under a word is measurement noise; a copied cache key or a Piece is not
+            if (alloc.getScore() > 8) {
+                System.err.println("FAIL: " + kind + ".isGameOver allocates");
+                failed = true;
+            }
+        }
+        if (failed) {
+            throw new AssertionError("isGameOver allocates");
+        }
+    }
+}
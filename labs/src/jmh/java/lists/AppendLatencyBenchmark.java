@@ -0,0 +1,56 @@
+package lists;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Samples the latency of individual appends while a list grows to 10^7 elements.
+// SampleTime mode reports the p99/p99.9/p99.99/max percentiles, which is where the
+// whole-array copies of EfficientIntArrayList.resize() show up.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AppendLatencyBenchmark {
+
+    public enum ListKind {
+        EfficientIntArrayList(EfficientIntArrayList::new),
+        SegmentedIntArrayList(SegmentedIntArrayList::new);
+
+        private final Supplier<IntList> maker;
+
+        ListKind(Supplier<IntList> maker) {
+            this.maker = maker;
+        }
+
+        public IntList create() {
+            return maker.get();
+        }
+    }
+
+    @Param
+    public ListKind kind;
+
+    @Param({"10000000"})
+    public int maxSize;
+
+    private IntList list;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        list = kind.create();
+    }
+
+    @Benchmark
+    public int append() {
+        if (list.length() == maxSize) {
+            // start again once the target size is reached; happens once per maxSize samples
+            list = kind.create();
+        }
+        list.append(list.length());
+        return list.length();
+    }
+}
@@ -0,0 +1,118 @@
+package lists;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+// Multi-producer ingestion: `producers` threads append TOTAL ints between them into one list.
+// ConcurrentIntList is compared with the current approach of guarding an
+// EfficientIntArrayList with a single lock. The producer counts are relative to the cores
+// of the machine running the benchmark, so the same run shows how each one scales anywhere.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentAppendBenchmark {
+    private static final int TOTAL = 1 << 20;
+
+    public enum ListKind {
+        ConcurrentIntList(ConcurrentIntList::new),
+        LockedEfficientIntArrayList(LockedIntList::new);
+
+        private final Supplier<IntList> maker;
+
+        ListKind(Supplier<IntList> maker) {
+            this.maker = maker;
+        }
+
+        public IntList create() {
+            return maker.get();
+        }
+    }
+
+    @Param
+    public ListKind kind;
+
+    // "1", "cores/2", "cores" or "2*cores", resolved against availableProcessors()
+    @Param({"1", "cores/2", "cores", "2*cores"})
+    public String producers;
+
+    private int threads;
+    private ExecutorService pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        threads = switch (producers) {
+            case "cores/2" -> Math.max(1, cores / 2);
+            case "cores" -> cores;
+            case "2*cores" -> 2 * cores;
+            default -> Integer.parseInt(producers);
+        };
+        pool = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL)
+    public IntList append() throws InterruptedException, ExecutionException {
+        IntList list = kind.create();
+        CyclicBarrier start = new CyclicBarrier(threads);
+        Future<?>[] futures = new Future<?>[threads];
+        int base = 0;
+        for (int p = 0; p < threads; p++) {
+            // the first TOTAL % threads producers take one extra value, so every run appends TOTAL
+            int perProducer = TOTAL / threads + (p < TOTAL % threads ? 1 : 0);
+            int from = base;
+            base += perProducer;
+            futures[p] = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    list.append(from + i);
+                }
+                return null;
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return list;
+    }
+
+    // The global-lock baseline
+    static class LockedIntList implements IntList {
+        private final EfficientIntArrayList list = new EfficientIntArrayList();
+
+        @Override
+        public synchronized boolean contains(int value) {
+            return list.contains(value);
+        }
+
+        @Override
+        public synchronized void append(int value) {
+            list.append(value);
+        }
+
+        @Override
+        public synchronized int length() {
+            return list.length();
+        }
+
+        @Override
+        public synchronized long estimatedBytes() {
+            return MemoryFootprint.object(4) + list.estimatedBytes();
+        }
+
+        @Override
+        public synchronized int get(int index) {
+            return list.get(index);
+        }
+    }
+}
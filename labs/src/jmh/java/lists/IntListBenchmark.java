@@ -0,0 +1,131 @@
+package lists;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// JMH replacement for the hand-rolled timing loops in EvalIntListSpeed and PerformanceEvaluator.
+// Every IntList (and every GenericList via GenIntListWrapper) is run through the same workloads
+// so the numbers can be compared directly.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// GenericLinkedListRecord recurses once per element on append, so give it a deep stack
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class IntListBenchmark {
+
+    public enum ListKind {
+        IntArrayList(IntArrayList::new),
+        EfficientIntArrayList(EfficientIntArrayList::new),
+        IntLinkedList(IntLinkedList::new),
+        EfficientIntLinkedList(EfficientIntLinkedList::new),
+        UnrolledIntLinkedList(UnrolledIntLinkedList::new),
+        IntHashList(IntHashList::new),
+        OffHeapIntList(OffHeapIntList::new),
+        SegmentedIntArrayList(SegmentedIntArrayList::new),
+        AdaptiveIntList(AdaptiveIntList::new),
+        CompressedIntList(CompressedIntList::new),
+        RoaringIntList(RoaringIntList::new),
+        GenericArrayList(() -> new GenIntListWrapper(new GenericArrayList<>())),
+        GenericLinkedList(() -> new GenIntListWrapper(new GenericLinkedList<>())),
+        GenericLinkedListRecord(() -> new GenIntListWrapper(new GenericLinkedListRecord<>())),
+        IntGenericArrayList(() -> new GenIntListWrapper(new IntGenericArrayList())),
+        PersistentGenericList(() -> new GenIntListWrapper(new PersistentGenericList<>()));
+
+        private final Supplier<IntList> maker;
+
+        ListKind(Supplier<IntList> maker) {
+            this.maker = maker;
+        }
+
+        public IntList create() {
+            return maker.get();
+        }
+    }
+
+    @Param
+    public ListKind kind;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private IntList filled;
+    private int[] probes;
+    private int[] batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filled = kind.create();
+        for (int i = 0; i < size; i++) {
+            filled.append(i);
+        }
+        batch = filled.toArray();
+        // half the probes hit (spread over the list), half miss
+        probes = new int[16];
+        for (int i = 0; i < probes.length; i += 2) {
+            probes[i] = (int) ((long) size * i / probes.length);
+            probes[i + 1] = -1 - i;
+        }
+    }
+
+    @Benchmark
+    public IntList append() {
+        IntList list = kind.create();
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void contains(Blackhole bh) {
+        for (int probe : probes) {
+            bh.consume(filled.contains(probe));
+        }
+    }
+
+    // a miss has to compare against every element
+    @Benchmark
+    public boolean scan() {
+        return filled.contains(-1);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long[] sum = {0};
+        filled.forEachInt(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public int[] toArray() {
+        return filled.toArray();
+    }
+
+    // bulk ingest of the whole batch through appendAll
+    @Benchmark
+    public IntList appendAll() {
+        IntList list = kind.create();
+        list.appendAll(batch, 0, batch.length);
+        return list;
+    }
+
+    // dedup-style ingest: only append values that are not already present
+    @Benchmark
+    public IntList mixed() {
+        IntList list = kind.create();
+        int distinct = Math.max(1, size / 2);
+        for (int i = 0; i < size; i++) {
+            int value = i % distinct;
+            if (!list.contains(value)) {
+                list.append(value);
+            }
+        }
+        return list;
+    }
+}
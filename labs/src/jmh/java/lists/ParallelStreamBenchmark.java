@@ -0,0 +1,72 @@
+package lists;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Sequential versus parallel sum and filter over the lists and ranges.
+// The parallel runs use the common fork-join pool; vary its size with
+// -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=N to see the scaling.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelStreamBenchmark {
+
+    @Param({"10000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private Range range;
+    private EfficientIntArrayList arrayList;
+    private EfficientIntLinkedList linkedList;
+    private GenericArrayList<Integer> genericArrayList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        range = new Range(0, size);
+        arrayList = new EfficientIntArrayList(size);
+        linkedList = new EfficientIntLinkedList();
+        genericArrayList = new GenericArrayList<>();
+        for (int i = 0; i < size; i++) {
+            arrayList.append(i);
+            linkedList.append(i);
+            genericArrayList.append(i);
+        }
+    }
+
+    @Benchmark
+    public long rangeSum() {
+        return (parallel ? range.parallelIntStream() : range.intStream()).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long rangeFilter() {
+        return (parallel ? range.parallelIntStream() : range.intStream()).filter(v -> v % 7 == 0).count();
+    }
+
+    @Benchmark
+    public long arrayListSum() {
+        return (parallel ? arrayList.parallelIntStream() : arrayList.intStream()).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long arrayListFilter() {
+        return (parallel ? arrayList.parallelIntStream() : arrayList.intStream()).filter(v -> v % 7 == 0).count();
+    }
+
+    @Benchmark
+    public long linkedListSum() {
+        return (parallel ? linkedList.parallelIntStream() : linkedList.intStream()).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long genericArrayListSum() {
+        return (parallel ? genericArrayList.parallelStream() : genericArrayList.stream())
+                .mapToLong(Integer::longValue).sum();
+    }
+}
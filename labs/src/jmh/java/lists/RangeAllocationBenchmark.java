@@ -0,0 +1,106 @@
+package lists;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+// Compares boxed and primitive iteration over Range and OddRange.
+// main() runs the primitive benchmarks with the GC profiler and fails if they
+// allocate anything per element (run it with ./gradlew jmhAllocationCheck).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeAllocationBenchmark {
+    static final int SIZE = 100_000;
+
+    // starts above the Integer cache so boxing really allocates
+    private final Range range = new Range(1_000, 1_000 + SIZE);
+    private final OddRange oddRange = new OddRange(1_000, 1_000 + 2 * SIZE);
+
+    @Benchmark
+    public long boxedRange() {
+        long sum = 0;
+        for (Integer value : (Iterable<Integer>) range) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveRangeNextInt() {
+        long sum = 0;
+        PrimitiveIterator.OfInt it = range.iterator();
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveRangeForEach() {
+        long[] sum = {0};
+        range.forEachInt(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long primitiveOddRangeNextInt() {
+        long sum = 0;
+        PrimitiveIterator.OfInt it = oddRange.iterator();
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveOddRangeForEach() {
+        long[] sum = {0};
+        oddRange.forEachInt(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long closedFormSum() {
+        return range.sum() + oddRange.sum();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RangeAllocationBenchmark.class.getSimpleName() + ".primitive.*")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .forks(1)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        boolean failed = false;
+        for (RunResult result : results) {
+            Result alloc = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            double bytesPerElement = alloc.getScore() / SIZE;
+            String name = result.getParams().getBenchmark();
+            System.out.printf("%s: %.4f bytes allocated per element%n", name, bytesPerElement);
+            // a handful of bytes per call (e.g. an iterator that escapes) is fine,
+            // anything that scales with the number of elements is not
+            if (bytesPerElement > 0.01) {
+                System.err.println("FAIL: " + name + " allocates per element");
+                failed = true;
+            }
+        }
+        if (failed) {
+            throw new AssertionError("Primitive range iteration allocates per element");
+        }
+    }
+}
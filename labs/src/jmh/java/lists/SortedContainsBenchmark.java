@@ -0,0 +1,67 @@
+package lists;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// contains() throughput of SortedIntList's binary search against the linear-scan lists
+// on a large read-mostly list. The values are appended in random order; half the probes hit.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedContainsBenchmark {
+
+    public enum ListKind {
+        SortedIntList(SortedIntList::new),
+        EfficientIntArrayList(EfficientIntArrayList::new),
+        SegmentedIntArrayList(SegmentedIntArrayList::new),
+        UnrolledIntLinkedList(UnrolledIntLinkedList::new);
+
+        private final Supplier<IntList> maker;
+
+        ListKind(Supplier<IntList> maker) {
+            this.maker = maker;
+        }
+
+        public IntList create() {
+            return maker.get();
+        }
+    }
+
+    @Param
+    public ListKind kind;
+
+    @Param({"1000000"})
+    public int size;
+
+    private IntList list;
+    private int[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(17);
+        list = kind.create();
+        // even values only, so odd probes always miss
+        for (int i = 0; i < size; i++) {
+            list.append(random.nextInt(size) * 2);
+        }
+        list.contains(0); // merge any pending appends before measuring
+        probes = new int[1024];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextInt(size * 2);
+        }
+    }
+
+    @Benchmark
+    public boolean contains() {
+        int probe = probes[next];
+        next = (next + 1) & (probes.length - 1);
+        return list.contains(probe);
+    }
+}
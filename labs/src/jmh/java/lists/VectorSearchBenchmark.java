@@ -0,0 +1,49 @@
+package lists;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Compares the scalar and Vector API search kernels used by the array-backed int lists.
+// The probe value is never present, so contains/indexOf scan the whole array.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorSearchBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private int[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    public int scalarIndexOf() {
+        return IntSearch.scalarIndexOf(values, size, -1);
+    }
+
+    @Benchmark
+    public int vectorIndexOf() {
+        return IntVectorSearch.indexOf(values, size, -1);
+    }
+
+    @Benchmark
+    public int scalarCount() {
+        return IntSearch.scalarCount(values, size, size / 2);
+    }
+
+    @Benchmark
+    public int vectorCount() {
+        return IntVectorSearch.count(values, size, size / 2);
+    }
+}
@@ -0,0 +1,282 @@
+package blocks;
+
+import blocks.BlockShapes.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+// Finds the best order and placements for the shapes in the palette, looking ahead until all of
+// them are placed. Boards are searched as ModelBitboard-style pairs of longs, so a move is a few
+// ANDs with a PlacementMasks mask and nothing is copied.
+// A line is worth the points it scores (with ModelBitboard's streak rules) plus a heuristic for
+// the board it leaves; a line that gets stuck before placing every shape loses.
+// Placing the same shapes in a different order often reaches the same board, so finished
+// subtrees are kept in a transposition table shared by all threads, with the best move from
+// each, so the plan is read back from the table. With more than one thread the first moves are
+// split across a fork-join pool that the search keeps until close(). A node's value depends only on the node, so the table stays valid
+// for later searches of the same palette with fewer shapes left.
+public class BlocksSearch implements AutoCloseable {
+    static final double LOSS = -1_000_000;
+    static final double HOLE = -6; // an empty cell with no empty neighbour
+    static final double OPEN_REGION = 4; // a region with nothing in it
+    static final double COMBO = 2; // a region within three cells of popping
+    static final double EMPTY_CELL = 0.5;
+
+    public record Plan(List<Piece> moves, double value) {
+    }
+
+    // A board with the shapes still to place, as a bitmask of palette indices
+    private record Node(long lo, long hi, int streak, int remaining) {
+    }
+
+    // What the table knows about a node: its value and the move that reaches it, null if stuck
+    private record Scored(double value, Move best) {
+    }
+
+    private final List<Shape> palette;
+    private final Map<Node, Scored> table = new ConcurrentHashMap<>();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private ForkJoinPool pool; // made by the first search with more than one thread
+
+    public BlocksSearch(List<Shape> palette) {
+        if (palette.size() > Integer.SIZE - 1) {
+            throw new IllegalArgumentException("Too many shapes: " + palette.size());
+        }
+        this.palette = List.copyOf(palette);
+    }
+
+    // Searches from the model's current board. The streak is only known for a ModelBitboard,
+    // the one model that reports it; other models are searched as if it were 0.
+    public Plan best(ModelInterface model, int threads) {
+        return best(model, palette, threads);
+    }
+
+    // Searches placing only toPlace, which must be some of the palette's shapes
+    public Plan best(ModelInterface model, List<Shape> toPlace, int threads) {
+        int remaining = remaining(toPlace);
+        if (remaining < 0) {
+            throw new IllegalArgumentException("Not in the palette: " + toPlace);
+        }
+        Set<Cell> occupied = model.getOccupiedCells();
+        int streak = model instanceof ModelBitboard bitboard ? bitboard.getStreak() : 0;
+        Node root = new Node(PlacementMasks.lo(occupied), PlacementMasks.hi(occupied), streak, remaining);
+        long start = System.nanoTime();
+        if (threads > 1) {
+            // searching the children in parallel fills the table, so the root only combines them
+            pool(threads).submit(() -> children(root).parallelStream().forEach(move -> value(move.next))).join();
+        }
+        double value = value(root);
+        List<Piece> moves = new ArrayList<>();
+        Node node = root;
+        while (node.remaining() != 0) {
+            Move best = table.get(node).best();
+            if (best == null) {
+                break; // stuck: every line from here loses
+            }
+            moves.add(best.piece);
+            node = best.next;
+        }
+        nanos.add(System.nanoTime() - start);
+        return new Plan(moves, value);
+    }
+
+    // The pool is kept between searches; asking for a different number of threads replaces it
+    private synchronized ForkJoinPool pool(int threads) {
+        if (pool == null || pool.getParallelism() != threads) {
+            if (pool != null) {
+                pool.shutdown();
+            }
+            pool = new ForkJoinPool(threads);
+        }
+        return pool;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    public long nodes() {
+        return nodes.sum();
+    }
+
+    // 0 until a search has finished
+    public double nodesPerSecond() {
+        long elapsed = nanos.sum();
+        return elapsed == 0 ? 0 : nodes() / (elapsed / 1e9);
+    }
+
+    public int tableSize() {
+        return table.size();
+    }
+
+    // Best points still to come from the node, plus the heuristic value of the final board
+    private double value(Node node) {
+        if (node.remaining() == 0) {
+            nodes.increment();
+            return evaluate(node.lo(), node.hi());
+        }
+        Scored known = table.get(node);
+        if (known != null) {
+            return known.value();
+        }
+        nodes.increment();
+        Move best = null;
+        double bestValue = LOSS;
+        for (Move move : children(node)) {
+            double value = move.points + value(move.next);
+            if (best == null || value > bestValue) {
+                best = move;
+                bestValue = value;
+            }
+        }
+        table.put(node, new Scored(bestValue, best));
+        return bestValue;
+    }
+
+    private record Move(Piece piece, int points, Node next) {
+    }
+
+    private List<Move> children(Node node) {
+        List<Move> moves = new ArrayList<>();
+        for (int i = 0; i < palette.size(); i++) {
+            if ((node.remaining() & 1 << i) == 0 || isRepeat(node.remaining(), i)) {
+                continue;
+            }
+            PlacementMasks masks = PlacementMasks.of(palette.get(i));
+            for (int a = 0; a < masks.size(); a++) {
+                if ((masks.lo(a) & node.lo()) != 0 || (masks.hi(a) & node.hi()) != 0) {
+                    continue;
+                }
+                moves.add(place(node, i, masks.piece(a), node.lo() | masks.lo(a), node.hi() | masks.hi(a)));
+            }
+        }
+        return moves;
+    }
+
+    // The palette indices of the given shapes, or -1 if a shape is not in the palette or appears
+    // there fewer times. Of equal shapes the search places the first one left, so the ones still
+    // to place are always the last: taking the last unused index gives the nodes the table holds.
+    int remaining(List<Shape> toPlace) {
+        int remaining = 0;
+        for (Shape shape : toPlace) {
+            int i = palette.size() - 1;
+            while (i >= 0 && ((remaining & 1 << i) != 0 || !palette.get(i).equals(shape))) {
+                i--;
+            }
+            if (i < 0) {
+                return -1;
+            }
+            remaining |= 1 << i;
+        }
+        return remaining;
+    }
+
+    // Two equal shapes left to place give the same lines, so only try the first
+    private boolean isRepeat(int remaining, int i) {
+        for (int j = 0; j < i; j++) {
+            if ((remaining & 1 << j) != 0 && palette.get(j).equals(palette.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Pops the complete regions and scores them the way ModelBitboard.place does
+    private static Move place(Node node, int shape, Piece piece, long lo, long hi) {
+        int popped = 0;
+        int poppedCells = 0;
+        long clearLo = 0;
+        long clearHi = 0;
+        for (int r = 0; r < ModelBitboard.REGION_LO.length; r++) {
+            if ((lo & ModelBitboard.REGION_LO[r]) == ModelBitboard.REGION_LO[r]
+                    && (hi & ModelBitboard.REGION_HI[r]) == ModelBitboard.REGION_HI[r]) {
+                popped++;
+                poppedCells += ModelBitboard.REGIONS.get(r).size();
+                clearLo |= ModelBitboard.REGION_LO[r];
+                clearHi |= ModelBitboard.REGION_HI[r];
+            }
+        }
+        int points = poppedCells * Math.max(1, popped) * (node.streak() + 1);
+        int streak = popped > 0 ? node.streak() + 1 : 0;
+        return new Move(piece, points, new Node(lo & ~clearLo, hi & ~clearHi, streak, node.remaining() & ~(1 << shape)));
+    }
+
+    // Rewards room to play and regions close to popping, and punishes cells nothing can reach
+    // except a single-cell shape
+    static double evaluate(long lo, long hi) {
+        double value = EMPTY_CELL * (ModelBitboard.CELLS - Long.bitCount(lo) - Long.bitCount(hi));
+        for (int r = 0; r < ModelBitboard.REGION_LO.length; r++) {
+            int filled = Long.bitCount(lo & ModelBitboard.REGION_LO[r]) + Long.bitCount(hi & ModelBitboard.REGION_HI[r]);
+            if (filled == 0) {
+                value += OPEN_REGION;
+            } else if (ModelBitboard.REGIONS.get(r).size() - filled <= 3) {
+                value += COMBO;
+            }
+        }
+        for (int y = 0; y < ModelInterface.height; y++) {
+            for (int x = 0; x < ModelInterface.width; x++) {
+                if (!isFilled(lo, hi, x, y) && isFilled(lo, hi, x - 1, y) && isFilled(lo, hi, x + 1, y)
+                        && isFilled(lo, hi, x, y - 1) && isFilled(lo, hi, x, y + 1)) {
+                    value += HOLE;
+                }
+            }
+        }
+        return value;
+    }
+
+    // Cells off the grid count as filled, so a corner can be a hole
+    private static boolean isFilled(long lo, long hi, int x, int y) {
+        if (x < 0 || x >= ModelInterface.width || y < 0 || y >= ModelInterface.height) {
+            return true;
+        }
+        int bit = y * ModelInterface.width + x;
+        return bit < Long.SIZE ? (lo & 1L << bit) != 0 : (hi & 1L << (bit - Long.SIZE)) != 0;
+    }
+
+    // A GameSimulator policy that searches the shapes still to place and plays the first move.
+    // The search for a palette is kept until a shape outside it turns up, so the later moves of
+    // a palette start from the table the first one filled. Each game stays on one thread, so
+    // each thread keeps its own, and searches on that thread without a pool.
+    public static GameSimulator.Policy policy() {
+        ThreadLocal<BlocksSearch> searches = new ThreadLocal<>();
+        return (model, toPlace, random) -> {
+            BlocksSearch search = searches.get();
+            if (search == null || search.remaining(toPlace) < 0) {
+                search = new BlocksSearch(toPlace);
+                searches.set(search);
+            }
+            Plan plan = search.best(model, toPlace, 1);
+            return plan.moves().isEmpty() ? null : plan.moves().get(0);
+        };
+    }
+
+    public static void main(String[] args) {
+        ModelBitboard model = new ModelBitboard();
+        Shape line = new Shape(List.of(new Cell(0, 0), new Cell(1, 0), new Cell(2, 0)));
+        Shape square = new Shape(List.of(new Cell(0, 0), new Cell(1, 0), new Cell(0, 1), new Cell(1, 1)));
+        Shape single = new Shape(List.of(new Cell(0, 0)));
+        for (int x = 0; x < 6; x++) {
+            model.place(new Piece(single, new Cell(x, 0)));
+        }
+        List<Shape> palette = List.of(square, single, line);
+        try (BlocksSearch search = new BlocksSearch(palette)) {
+            Plan plan = search.best(model, Runtime.getRuntime().availableProcessors());
+            System.out.println(plan.moves().size()); // Expected output: 3
+            System.out.println(plan.moves().get(0).loc()); // Expected output: Cell[x=0, y=1]
+            System.out.printf(Locale.ROOT, "%.1f%n", plan.value()); // Expected output: 131.0
+            System.out.printf(Locale.ROOT, "%d nodes, %.0f nodes/s, %d positions cached%n",
+                    search.nodes(), search.nodesPerSecond(), search.tableSize());
+        }
+    }
+}
@@ -2,13 +2,12 @@ package blocks;
 
 import blocks.BlockShapes.*;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 public class Model2dArray extends State2dArray implements ModelInterface {
-    private final List<Shape> regions = new RegionHelper().allRegions(); // Predefined regions for validation.
+    private final RegionCounts regionCounts = new RegionCounts(); // Filled cells per region.
     private int score = 0; // Tracks the score.
 
     public Model2dArray() {
@@ -22,7 +21,6 @@ public class Model2dArray extends State2dArray implements ModelInterface {
 
     @Override
     public int getScore() {
-        System.out.println("Current Score: " + score);
         return score; // Returns the current game score.
     }
 
@@ -49,18 +47,17 @@ public class Model2dArray extends State2dArray implements ModelInterface {
     @Override
     public void place(Piece piece) {
         // Mark cells as occupied.
-        for (Cell cell : piece.cells()) {
-            grid[cell.x()][cell.y()] = true;
-        }
-
-        // Collect all complete regions.
-        List<Shape> regionsToRemove = new ArrayList<>();
-        for (Shape region : regions) {
-            if (isComplete(region)) {
-                regionsToRemove.add(region);
+        List<Cell> cells = piece.cells();
+        for (Cell cell : cells) {
+            if (!grid[cell.x()][cell.y()]) {
+                grid[cell.x()][cell.y()] = true;
+                regionCounts.fill(cell);
             }
         }
 
+        // Collect all complete regions; only the ones the piece touches can have changed.
+        List<Shape> regionsToRemove = regionCounts.completeRegions(cells);
+
         // Apply a multiplier based on the number of regions.
         int multiplier = Math.max(1, regionsToRemove.size()); // Ensure multiplier is at least 1.
         int pointsEarned = 0;
@@ -77,18 +74,16 @@ public class Model2dArray extends State2dArray implements ModelInterface {
 
         // Play sound effects for points earned.
         playSoundEffect(regionsToRemove);
-
-        // Optionally log placement details for debugging.
-        System.out.println("Regions Popped: " + regionsToRemove.size() +
-                ", Multiplier: " + multiplier +
-                ", Points Earned: " + pointsEarned);
     }
 
     @Override
     public void remove(Shape region) {
         // Clears all cells within the specified region.
         for (Cell cell : region) {
-            grid[cell.x()][cell.y()] = false;
+            if (grid[cell.x()][cell.y()]) {
+                grid[cell.x()][cell.y()] = false;
+                regionCounts.clear(cell);
+            }
         }
     }
 
@@ -106,38 +101,46 @@ public class Model2dArray extends State2dArray implements ModelInterface {
     @Override
     public boolean isGameOver(List<Shape> palettePieces) {
         // Determines if the game is over by verifying if any palette piece can be placed.
+        long lo = occupiedLo();
+        long hi = occupiedHi();
         for (Shape shape : palettePieces) {
-            if (canPlaceAnywhere(shape)) {
+            if (PlacementMasks.of(shape).anyFits(lo, hi)) {
                 return false; // Game is not over if at least one piece can be placed.
             }
         }
         return true; // Game over if no piece can be placed.
     }
 
-    private boolean canPlaceAnywhere(Shape shape) {
-        // Checks if the shape can be placed anywhere on the grid.
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                Piece piece = new Piece(shape, new Cell(x, y));
-                if (canPlace(piece)) {
-                    return true; // Valid placement found.
-                }
+    @Override
+    public List<Piece> legalPlacements(Shape shape) {
+        return PlacementMasks.of(shape).legal(occupiedLo(), occupiedHi());
+    }
+
+    // The grid as the two words of a PlacementMasks bitboard
+    private long occupiedLo() {
+        long bits = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (grid[bit % width][bit / width]) {
+                bits |= 1L << bit;
             }
         }
-        return false; // No valid placement found.
+        return bits;
+    }
+
+    private long occupiedHi() {
+        long bits = 0;
+        for (int bit = Long.SIZE; bit < width * height; bit++) {
+            if (grid[bit % width][bit / width]) {
+                bits |= 1L << (bit - Long.SIZE);
+            }
+        }
+        return bits;
     }
 
     @Override
     public List<Shape> getPoppableRegions(Piece piece) {
         // Identifies all regions that would be cleared if the piece is placed.
-        List<Shape> poppable = new ArrayList<>();
-        List<Cell> cellsToAdd = piece.cells(); // Get the cells the piece would occupy.
-        for (Shape region : regions) {
-            if (wouldBeComplete(region, cellsToAdd)) {
-                poppable.add(region); // Add region if it would become complete.
-            }
-        }
-        return poppable;
+        return regionCounts.wouldBeComplete(piece.cells(), cell -> grid[cell.x()][cell.y()]);
     }
 
     @Override
@@ -154,18 +157,6 @@ public class Model2dArray extends State2dArray implements ModelInterface {
         return occupiedCells;
     }
 
-    private boolean wouldBeComplete(Shape region, List<Cell> toAdd) {
-        // Checks if adding the given cells would complete the region.
-        Set<Cell> simulatedOccupied = getOccupiedCells();
-        simulatedOccupied.addAll(toAdd); // Simulate adding the new cells.
-        for (Cell cell : region) {
-            if (!simulatedOccupied.contains(cell)) {
-                return false; // Region incomplete if any required cell is missing.
-            }
-        }
-        return true;
-    }
-
     // Play sound effects based on regions popped
     private void playSoundEffect(List<Shape> regions) {
         if (regions.size() > 1) {
@@ -0,0 +1,211 @@
+package blocks;
+
+import blocks.BlockShapes.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// The grid as a bitboard: cell (x, y) is bit y * width + x of a 81-bit number held in two longs,
+// bits 0..63 in lo and 64..80 in hi. Each of the 27 regions from RegionHelper is precomputed as
+// a mask, so checking, completing and clearing regions is a few ANDs and ORs instead of
+// hashing or walking cells, and nothing is allocated except the lists the interface returns.
+// Scoring works like ModelSet: points for the popped cells, times the number of regions popped,
+// times the streak of consecutive popping moves.
+public class ModelBitboard implements ModelInterface {
+    static final int CELLS = width * height;
+    static final List<Shape> REGIONS = new RegionHelper().allRegions(); // rows, then columns, then sub-squares
+    static final long[] REGION_LO = new long[REGIONS.size()];
+    static final long[] REGION_HI = new long[REGIONS.size()];
+    private static final Map<List<Cell>, Integer> REGION_INDEX = new HashMap<>(); // region cells to r
+
+    static {
+        for (int r = 0; r < REGIONS.size(); r++) {
+            REGION_INDEX.put(List.copyOf(REGIONS.get(r)), r);
+            for (Cell cell : REGIONS.get(r)) {
+                int bit = cell.y() * width + cell.x();
+                if (bit < Long.SIZE) {
+                    REGION_LO[r] |= 1L << bit;
+                } else {
+                    REGION_HI[r] |= 1L << (bit - Long.SIZE);
+                }
+            }
+        }
+    }
+
+    private long lo; // occupancy of cells 0..63
+    private long hi; // occupancy of cells 64..80
+    private int score = 0;
+    private int streak = 0;
+
+    @Override
+    public int getScore() {
+        return score;
+    }
+
+    public int getStreak() {
+        return streak;
+    }
+
+    @Override
+    public boolean canPlace(Piece piece) {
+        int x0 = piece.loc().x();
+        int y0 = piece.loc().y();
+        for (Cell cell : piece.shape()) {
+            int x = x0 + cell.x();
+            int y = y0 + cell.y();
+            if (x < 0 || x >= width || y < 0 || y >= height || isOccupied(y * width + x)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void place(Piece piece) {
+        int x0 = piece.loc().x();
+        int y0 = piece.loc().y();
+        // a cell off the grid would wrap into the next row, so refuse the piece before setting anything;
+        // taken cells are allowed, as in the other models
+        for (Cell cell : piece.shape()) {
+            int x = x0 + cell.x();
+            int y = y0 + cell.y();
+            if (x < 0 || x >= width || y < 0 || y >= height) {
+                throw new IllegalArgumentException("Cell off the grid: " + new Cell(x, y) + " in " + piece);
+            }
+        }
+        for (Cell cell : piece.shape()) {
+            setBit((y0 + cell.y()) * width + x0 + cell.x());
+        }
+
+        // find every complete region first, then clear them together,
+        // so a cell shared by a row and a column counts towards both
+        int popped = 0;
+        int poppedCells = 0;
+        long clearLo = 0;
+        long clearHi = 0;
+        for (int r = 0; r < REGIONS.size(); r++) {
+            if ((lo & REGION_LO[r]) == REGION_LO[r] && (hi & REGION_HI[r]) == REGION_HI[r]) {
+                popped++;
+                poppedCells += REGIONS.get(r).size();
+                clearLo |= REGION_LO[r];
+                clearHi |= REGION_HI[r];
+            }
+        }
+        lo &= ~clearLo;
+        hi &= ~clearHi;
+
+        int pointsEarned = poppedCells * Math.max(1, popped);
+        pointsEarned *= streak + 1; // Apply streak multiplier.
+        score += pointsEarned;
+        streak = popped > 0 ? streak + 1 : 0;
+
+        if (popped > 1) {
+            SoundPlayer.playSound("MultipleSectionsPopped.wav");
+        } else if (popped == 1) {
+            SoundPlayer.playSound("SectionPopped.wav");
+        }
+    }
+
+    // Cells off the grid are refused (PlacementMasks throws IllegalArgumentException) rather than
+    // wrapped onto another cell's bit
+    @Override
+    public void remove(Shape region) {
+        long clearLo = PlacementMasks.lo(region);
+        long clearHi = PlacementMasks.hi(region);
+        lo &= ~clearLo;
+        hi &= ~clearHi;
+    }
+
+    // One of the 27 regions is checked against its precomputed mask; any other shape has its
+    // cells turned into a mask first, with the same off-grid check as remove
+    @Override
+    public boolean isComplete(Shape region) {
+        Integer r = REGION_INDEX.get(region);
+        long regionLo = r != null ? REGION_LO[r] : PlacementMasks.lo(region);
+        long regionHi = r != null ? REGION_HI[r] : PlacementMasks.hi(region);
+        return (lo & regionLo) == regionLo && (hi & regionHi) == regionHi;
+    }
+
+    @Override
+    public boolean isGameOver(List<Shape> palettePieces) {
+        for (Shape shape : palettePieces) {
+            if (canPlaceAnywhere(shape)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean canPlaceAnywhere(Shape shape) {
+        return PlacementMasks.of(shape).anyFits(lo, hi);
+    }
+
+    @Override
+    public List<Piece> legalPlacements(Shape shape) {
+        return PlacementMasks.of(shape).legal(lo, hi);
+    }
+
+    @Override
+    public List<Shape> getPoppableRegions(Piece piece) {
+        // simulate the placement on copies of the two words
+        long simLo = lo;
+        long simHi = hi;
+        for (Cell cell : piece.shape()) {
+            int x = piece.loc().x() + cell.x();
+            int y = piece.loc().y() + cell.y();
+            if (x < 0 || x >= width || y < 0 || y >= height) {
+                continue; // an off-grid cell cannot complete anything
+            }
+            int bit = y * width + x;
+            if (bit < Long.SIZE) {
+                simLo |= 1L << bit;
+            } else {
+                simHi |= 1L << (bit - Long.SIZE);
+            }
+        }
+        List<Shape> poppable = new ArrayList<>();
+        for (int r = 0; r < REGIONS.size(); r++) {
+            if ((simLo & REGION_LO[r]) == REGION_LO[r] && (simHi & REGION_HI[r]) == REGION_HI[r]) {
+                poppable.add(REGIONS.get(r));
+            }
+        }
+        return poppable;
+    }
+
+    @Override
+    public Set<Cell> getOccupiedCells() {
+        Set<Cell> occupied = new HashSet<>();
+        for (int bit = 0; bit < CELLS; bit++) {
+            if (isOccupied(bit)) {
+                occupied.add(new Cell(bit % width, bit / width));
+            }
+        }
+        return occupied;
+    }
+
+    private boolean isOccupied(int bit) {
+        return bit < Long.SIZE ? (lo & (1L << bit)) != 0 : (hi & (1L << (bit - Long.SIZE))) != 0;
+    }
+
+    private void setBit(int bit) {
+        if (bit < Long.SIZE) {
+            lo |= 1L << bit;
+        } else {
+            hi |= 1L << (bit - Long.SIZE);
+        }
+    }
+
+    public static void main(String[] args) {
+        ModelBitboard model = new ModelBitboard();
+        Shape line = new Shape(List.of(new Cell(0, 0), new Cell(1, 0), new Cell(2, 0)));
+        for (int x = 0; x < width; x += 3) {
+            model.place(new Piece(line, new Cell(x, 0)));
+        }
+        System.out.println(model.getScore()); // Expected output: 9
+        System.out.println(model.getOccupiedCells().isEmpty()); // Expected output: true
+    }
+}
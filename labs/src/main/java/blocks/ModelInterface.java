@@ -27,4 +27,10 @@ public interface ModelInterface {
     Set<Cell> getOccupiedCells();
 
     int getScore();
+
+    // Every placement of the shape that fits on the current board
+    default List<Piece> legalPlacements(Shape shape) {
+        Set<Cell> occupied = getOccupiedCells();
+        return PlacementMasks.of(shape).legal(PlacementMasks.lo(occupied), PlacementMasks.hi(occupied));
+    }
 }
\ No newline at end of file
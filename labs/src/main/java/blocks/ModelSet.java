@@ -2,11 +2,12 @@ package blocks;
 
 import blocks.BlockShapes.*;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class ModelSet extends StateSet implements ModelInterface {
     final Set<Cell> locations = new HashSet<>(); // All valid grid locations.
-    final List<Shape> regions = new RegionHelper().allRegions(); // Predefined regions for validation.
+    private final RegionCounts regionCounts = new RegionCounts(); // Filled cells per region.
+    private long occupiedLo = 0; // `occupiedCells` as PlacementMasks bits, kept in step with the set
+    private long occupiedHi = 0;
     private int score = 0; // Tracks the score.
     private int streak = 0; // Tracks the streak.
     // Constructor initializes the regions.
@@ -17,8 +18,6 @@ public class ModelSet extends StateSet implements ModelInterface {
 
     @Override
     public int getScore() {
-        System.out.println("Current Score: " + score);
-        System.out.println("Current Streak: " + streak);
         return score; // Returns the current score.
     }
 
@@ -40,9 +39,16 @@ public class ModelSet extends StateSet implements ModelInterface {
 
     @Override
     public void place(Piece piece) {
-        markCellsAsOccupied(piece);
+        List<Cell> cells = piece.cells();
+        // Refuse cells off the grid before changing anything; they have no bit in the placement masks.
+        for (Cell cell : cells) {
+            if (!locations.contains(cell)) {
+                throw new IllegalArgumentException("Cell off the grid: " + cell + " in " + piece);
+            }
+        }
+        markCellsAsOccupied(cells);
 
-        List<Shape> completeRegions = collectCompleteRegions();
+        List<Shape> completeRegions = regionCounts.completeRegions(cells); // Only regions the piece touches can pop.
         int pointsEarned = calculatePoints(completeRegions);
 
         pointsEarned *= streak + 1; // Apply streak multiplier.
@@ -59,19 +65,13 @@ public class ModelSet extends StateSet implements ModelInterface {
     }
 
     // Mark all piece cells as occupied
-    private void markCellsAsOccupied(Piece piece) {
-        occupiedCells.addAll(piece.cells());
-    }
-
-    // Collect all regions that are complete
-    private List<Shape> collectCompleteRegions() {
-        List<Shape> completeRegions = new ArrayList<>();
-        for (Shape region : regions) {
-            if (isComplete(region)) {
-                completeRegions.add(region);
+    private void markCellsAsOccupied(List<Cell> cells) {
+        for (Cell cell : cells) {
+            if (occupiedCells.add(cell)) {
+                regionCounts.fill(cell);
+                toggleBit(cell);
             }
         }
-        return completeRegions;
     }
 
     // Calculate points based on the complete regions
@@ -103,7 +103,22 @@ public class ModelSet extends StateSet implements ModelInterface {
     @Override
     public void remove(Shape region) {
         // Removes the cells of the given region from the `occupiedCells` set.
-        region.forEach(occupiedCells::remove);
+        for (Cell cell : region) {
+            if (occupiedCells.remove(cell)) {
+                regionCounts.clear(cell);
+                toggleBit(cell);
+            }
+        }
+    }
+
+    // Flips a cell's bit; only called when the cell really changed, so it always matches the set
+    private void toggleBit(Cell cell) {
+        int bit = PlacementMasks.bit(cell);
+        if (bit < Long.SIZE) {
+            occupiedLo ^= 1L << bit;
+        } else {
+            occupiedHi ^= 1L << (bit - Long.SIZE);
+        }
     }
 
     @Override
@@ -115,23 +130,28 @@ public class ModelSet extends StateSet implements ModelInterface {
     @Override
     public boolean isGameOver(List<Shape> palettePieces) {
         // Determines if the game is over by checking if any palette piece can be placed.
-        return palettePieces.stream().noneMatch(this::canPlaceAnywhere);
+        for (Shape shape : palettePieces) {
+            if (PlacementMasks.of(shape).anyFits(occupiedLo, occupiedHi)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public boolean canPlaceAnywhere(Shape shape) {
         // Checks if the shape can be placed anywhere on the grid.
-        return locations.stream().anyMatch(loc -> canPlace(new Piece(shape, loc)));
+        return PlacementMasks.of(shape).anyFits(occupiedLo, occupiedHi);
+    }
+
+    @Override
+    public List<Piece> legalPlacements(Shape shape) {
+        return PlacementMasks.of(shape).legal(occupiedLo, occupiedHi);
     }
 
     @Override
     public List<Shape> getPoppableRegions(Piece piece) {
         // Identifies regions that would be cleared if the piece is placed.
-        Set<Cell> simulatedOccupied = new HashSet<>(occupiedCells);
-        simulatedOccupied.addAll(piece.cells()); // Simulate adding the piece.
-
-        return regions.stream()
-                .filter(region -> region.stream().allMatch(simulatedOccupied::contains)) // Check completeness.
-                .collect(Collectors.toList()); // Collect all poppable regions.
+        return regionCounts.wouldBeComplete(piece.cells(), occupiedCells::contains);
     }
 
     @Override
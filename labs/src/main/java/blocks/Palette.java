@@ -3,6 +3,7 @@ package blocks;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import blocks.BlockShapes.*;
 
@@ -58,7 +59,6 @@ public class Palette {
                 count++;
             }
         }
-        System.out.println("nReadyPieces: " + count);
         return count;
     }
 
@@ -100,25 +100,28 @@ public class Palette {
             return false; // Do not replenish if there are still active sprites.
         }
 
-        System.out.println("Replenishing palette...");
         sprites.clear(); // Clear the current sprites.
 
 
-        Random random = new Random();
-        for (int i = 0; i < nShapes; i++) {
-            // Randomly select shapes to add to the palette.
-            Shape shape = shapes.get(random.nextInt(shapes.size()));
-
+        for (Shape shape : draw(new Random())) {
             // Initialize sprites with default positions (will be updated by doLayout).
             Sprite sprite = new Sprite(shape, 0, 0);
             sprites.add(sprite);
         }
 
-        System.out.println("Sprites after replenish: " + sprites);
-
         // Lay out the sprites just like in the Controller constructor.
         return true;
     }
+    // Randomly selects the next nShapes shapes to place, without creating sprites,
+    // so headless games can draw from the same shapes with their own seeded generator.
+    public List<Shape> draw(RandomGenerator random) {
+        List<Shape> drawn = new ArrayList<>(nShapes);
+        for (int i = 0; i < nShapes; i++) {
+            drawn.add(shapes.get(random.nextInt(shapes.size())));
+        }
+        return drawn;
+    }
+
     public static void main(String[] args) {
         Palette palette = new Palette();
         System.out.println(palette.shapes); // Display all possible shapes.
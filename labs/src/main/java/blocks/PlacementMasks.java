@@ -0,0 +1,157 @@
+package blocks;
+
+import blocks.BlockShapes.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Every anchor where a shape fits on the empty grid, with the cells it would cover as a bitboard
+// in ModelBitboard's layout (cell (x, y) is bit y * width + x, split over lo and hi).
+// Built once per shape and shared, so asking whether a shape fits on a board is a scan over at
+// most 81 pairs of longs, with no Piece or Cell created per anchor.
+// Shape is a mutable list, so the cache is keyed on an immutable copy of its cells and the
+// pieces hold their own copy: changing a shape afterwards cannot corrupt the shared masks.
+public class PlacementMasks {
+    private static final Map<List<Cell>, PlacementMasks> CACHE = new ConcurrentHashMap<>();
+
+    private final Piece[] pieces; // the piece at each in-bounds anchor, x outer
+    private final long[] lo;
+    private final long[] hi;
+
+    private PlacementMasks(List<Cell> cells) {
+        Shape shape = new Shape(cells);
+        List<Piece> anchors = new ArrayList<>();
+        List<long[]> masks = new ArrayList<>();
+        for (int x = 0; x < ModelInterface.width; x++) {
+            for (int y = 0; y < ModelInterface.height; y++) {
+                long[] mask = mask(shape, x, y);
+                if (mask != null) {
+                    anchors.add(new Piece(shape, new Cell(x, y)));
+                    masks.add(mask);
+                }
+            }
+        }
+        pieces = anchors.toArray(new Piece[0]);
+        lo = new long[pieces.length];
+        hi = new long[pieces.length];
+        for (int i = 0; i < pieces.length; i++) {
+            lo[i] = masks.get(i)[0];
+            hi[i] = masks.get(i)[1];
+        }
+    }
+
+    public static PlacementMasks of(Shape shape) {
+        // lists are equal by content, so the caller's shape finds the copy without allocating;
+        // the copy is only made the first time a shape is seen
+        PlacementMasks masks = CACHE.get(shape);
+        if (masks == null) {
+            List<Cell> key = List.copyOf(shape);
+            masks = new PlacementMasks(key);
+            PlacementMasks raced = CACHE.putIfAbsent(key, masks);
+            if (raced != null) {
+                masks = raced;
+            }
+        }
+        return masks;
+    }
+
+    // The lo and hi words of the given cells, which must all be on the grid
+    public static long lo(Iterable<Cell> cells) {
+        long bits = 0;
+        for (Cell cell : cells) {
+            int bit = bit(cell);
+            if (bit < Long.SIZE) {
+                bits |= 1L << bit;
+            }
+        }
+        return bits;
+    }
+
+    public static long hi(Iterable<Cell> cells) {
+        long bits = 0;
+        for (Cell cell : cells) {
+            int bit = bit(cell);
+            if (bit >= Long.SIZE) {
+                bits |= 1L << (bit - Long.SIZE);
+            }
+        }
+        return bits;
+    }
+
+    // A cell off the grid would land on another cell's bit, so it is refused rather than wrapped
+    static int bit(Cell cell) {
+        if (cell.x() < 0 || cell.x() >= ModelInterface.width || cell.y() < 0 || cell.y() >= ModelInterface.height) {
+            throw new IllegalArgumentException("Cell off the grid: " + cell);
+        }
+        return cell.y() * ModelInterface.width + cell.x();
+    }
+
+    // Number of in-bounds anchors, whatever is on the board
+    public int size() {
+        return pieces.length;
+    }
+
+    // The piece at the i-th anchor and the cells it covers, for callers that keep their own board
+    Piece piece(int i) {
+        return pieces[i];
+    }
+
+    long lo(int i) {
+        return lo[i];
+    }
+
+    long hi(int i) {
+        return hi[i];
+    }
+
+    public boolean anyFits(long occupiedLo, long occupiedHi) {
+        for (int i = 0; i < pieces.length; i++) {
+            if ((lo[i] & occupiedLo) == 0 && (hi[i] & occupiedHi) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The pieces that fit on a board with the given occupancy, in the same x-outer order as
+    // the models' own sweeps. The pieces themselves are shared, only the list is new.
+    public List<Piece> legal(long occupiedLo, long occupiedHi) {
+        List<Piece> legal = new ArrayList<>();
+        for (int i = 0; i < pieces.length; i++) {
+            if ((lo[i] & occupiedLo) == 0 && (hi[i] & occupiedHi) == 0) {
+                legal.add(pieces[i]);
+            }
+        }
+        return legal;
+    }
+
+    // The cells the shape covers at (x0, y0), or null if any of them is off the grid
+    private static long[] mask(Shape shape, int x0, int y0) {
+        long[] mask = new long[2];
+        for (Cell cell : shape) {
+            int x = x0 + cell.x();
+            int y = y0 + cell.y();
+            if (x < 0 || x >= ModelInterface.width || y < 0 || y >= ModelInterface.height) {
+                return null;
+            }
+            int bit = y * ModelInterface.width + x;
+            if (bit < Long.SIZE) {
+                mask[0] |= 1L << bit;
+            } else {
+                mask[1] |= 1L << (bit - Long.SIZE);
+            }
+        }
+        return mask;
+    }
+
+    public static void main(String[] args) {
+        Shape line = new Shape(List.of(new Cell(0, 0), new Cell(1, 0), new Cell(2, 0)));
+        PlacementMasks masks = PlacementMasks.of(line);
+        System.out.println(masks.size()); // Expected output: 63
+        System.out.println(masks.anyFits(0, 0)); // Expected output: true
+        System.out.println(masks.anyFits(-1L, -1L)); // Expected output: false
+        System.out.println(masks.legal(-1L, 0).size()); // Expected output: 13
+    }
+}
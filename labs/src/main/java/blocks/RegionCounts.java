@@ -0,0 +1,108 @@
+package blocks;
+
+import blocks.BlockShapes.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+// How many cells of each region from RegionHelper.allRegions() are filled, kept up to date as
+// a model fills and clears cells. Every cell belongs to exactly one row, one column and one
+// sub-square, so filling a cell bumps three counters, and only regions that a piece touches
+// can be completed by placing it. Finding complete or would-be-complete regions then costs the
+// cells of the piece, not the 27 * 9 cells of every region.
+class RegionCounts {
+    static final List<Shape> REGIONS = new RegionHelper().allRegions(); // rows, then columns, then sub-squares
+    private static final int COLUMNS = ModelInterface.height; // index of the first column region
+    private static final int SQUARES = COLUMNS + ModelInterface.width; // index of the first sub-square region
+    private static final int SQUARES_PER_COLUMN = ModelInterface.height / ModelInterface.subSize;
+
+    private final int[] filled = new int[REGIONS.size()];
+
+    // The three regions containing the cell, as bits of a mask indexed like REGIONS.
+    // Sub-squares run x outer, as RegionHelper.subSquareRegions() builds them.
+    static int regionMask(int x, int y) {
+        int square = SQUARES + (x / ModelInterface.subSize) * SQUARES_PER_COLUMN + y / ModelInterface.subSize;
+        return 1 << y | 1 << (COLUMNS + x) | 1 << square;
+    }
+
+    // Call only when the cell changes from empty to filled. Cells off the grid are in no region.
+    void fill(Cell cell) {
+        if (onGrid(cell)) {
+            add(regionMask(cell.x(), cell.y()), 1);
+        }
+    }
+
+    // Call only when the cell changes from filled to empty
+    void clear(Cell cell) {
+        if (onGrid(cell)) {
+            add(regionMask(cell.x(), cell.y()), -1);
+        }
+    }
+
+    // The complete regions that contain any of the cells, in REGIONS order
+    List<Shape> completeRegions(List<Cell> cells) {
+        List<Shape> complete = new ArrayList<>();
+        for (int touched = touched(cells); touched != 0; touched &= touched - 1) {
+            int r = Integer.numberOfTrailingZeros(touched);
+            if (filled[r] == REGIONS.get(r).size()) {
+                complete.add(REGIONS.get(r));
+            }
+        }
+        return complete;
+    }
+
+    // The regions that would be complete after filling the cells, given which cells are filled now.
+    // Cells off the grid are ignored; a cell listed twice is counted once.
+    List<Shape> wouldBeComplete(List<Cell> cells, Predicate<Cell> isFilled) {
+        List<Shape> complete = new ArrayList<>();
+        for (int touched = touched(cells); touched != 0; touched &= touched - 1) {
+            int r = Integer.numberOfTrailingZeros(touched);
+            int added = 0;
+            for (int i = 0; i < cells.size(); i++) {
+                Cell cell = cells.get(i);
+                if (isNew(cells, i) && (regionMask(cell.x(), cell.y()) & 1 << r) != 0 && !isFilled.test(cell)) {
+                    added++;
+                }
+            }
+            if (filled[r] + added == REGIONS.get(r).size()) {
+                complete.add(REGIONS.get(r));
+            }
+        }
+        return complete;
+    }
+
+    private void add(int mask, int delta) {
+        for (; mask != 0; mask &= mask - 1) {
+            filled[Integer.numberOfTrailingZeros(mask)] += delta;
+        }
+    }
+
+    private static int touched(List<Cell> cells) {
+        int touched = 0;
+        for (Cell cell : cells) {
+            if (onGrid(cell)) {
+                touched |= regionMask(cell.x(), cell.y());
+            }
+        }
+        return touched;
+    }
+
+    // On the grid and not a repeat of an earlier cell in the list
+    private static boolean isNew(List<Cell> cells, int i) {
+        Cell cell = cells.get(i);
+        if (!onGrid(cell)) {
+            return false;
+        }
+        for (int j = 0; j < i; j++) {
+            if (cells.get(j).equals(cell)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean onGrid(Cell cell) {
+        return cell.x() >= 0 && cell.x() < ModelInterface.width && cell.y() >= 0 && cell.y() < ModelInterface.height;
+    }
+}
@@ -10,6 +10,16 @@ import java.util.Map;
 public class SoundPlayer {
     private static final Map<String, byte[]> soundDataCache = new HashMap<>();
     private static final Map<String, AudioFormat> audioFormatCache = new HashMap<>();
+    private static volatile boolean muted = false;
+
+    // Silences playSound, for headless runs where there is no audio device or nothing preloaded
+    public static void setMuted(boolean muted) {
+        SoundPlayer.muted = muted;
+    }
+
+    public static boolean isMuted() {
+        return muted;
+    }
 
     // Preload sounds into memory
     public static void preloadSounds(String... soundFiles) {
@@ -41,6 +51,9 @@ public class SoundPlayer {
 
     // Play a sound from memory
     public static void playSound(String soundFile) {
+        if (muted) {
+            return;
+        }
         byte[] soundData = soundDataCache.get(soundFile);
         AudioFormat format = audioFormatCache.get(soundFile);
 
@@ -1,124 +1,359 @@
 package javapy;
 
 import lists.*; // Assuming all custom list classes are in the lists package
+import stats.ListBasedSummary;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
+// Runs the list performance sweep and writes performance_data.csv for plot_performance.py.
+// Everything can be set in a properties file and/or as --key=value arguments (arguments win), e.g.
+//   --lists=EfficientIntArrayList,IntHashList --sizes=1000,100000 --trials=20 --warmup=5
+//   --ops=append,retrieve,contains --parallel=4 --config=perf.properties
+// With parallel > 0 every list type is measured in its own new JVM, up to that many at a time,
+// so one list's garbage and JIT state cannot skew another's timings. The default of 1 runs
+// those JVMs one after another, so they do not compete for cores; raise it only for quick runs.
+// With parallel=0 everything runs in this JVM, one list after another.
 public class PerformanceEvaluator {
 
-    // Configuration - adjust here for different list sizes and enable/disable tests
-    private static final int[] TEST_SIZES = {10, 100, 1000, 10000, 100000};
-    private static final int NUM_TRIALS = 10; // Number of trials for median calculation
-    private static final boolean TEST_IntArrayList = true;
-    private static final boolean TEST_IntLinkedList = true;
-    private static final boolean TEST_EfficientIntArrayList = true;
-    private static final boolean TEST_EfficientIntLinkedList = true;
-    private static final boolean TEST_GenericLinkedList = true;
-    private static final boolean TEST_GenericArrayList = true;
-    private static final boolean TEST_GenericLinkedListRecord = true;
-    private static final String CSV_FILE = "performance_data.csv";
+    // Every list that can be measured, by name; generic lists are measured through GenIntListWrapper
+    static final Map<String, Supplier<IntList>> LISTS = new LinkedHashMap<>();
+
+    static {
+        LISTS.put("IntArrayList", IntArrayList::new);
+        LISTS.put("IntLinkedList", IntLinkedList::new);
+        LISTS.put("EfficientIntArrayList", EfficientIntArrayList::new);
+        LISTS.put("EfficientIntLinkedList", EfficientIntLinkedList::new);
+        LISTS.put("UnrolledIntLinkedList", UnrolledIntLinkedList::new);
+        LISTS.put("IntHashList", IntHashList::new);
+        LISTS.put("AdaptiveIntList", AdaptiveIntList::new);
+        LISTS.put("CompressedIntList", CompressedIntList::new);
+        LISTS.put("RoaringIntList", RoaringIntList::new);
+        LISTS.put("SegmentedIntArrayList", SegmentedIntArrayList::new);
+        LISTS.put("SortedIntList", SortedIntList::new);
+        LISTS.put("OffHeapIntList", OffHeapIntList::new);
+        LISTS.put("ConcurrentIntList", ConcurrentIntList::new);
+        LISTS.put("GenericLinkedList", () -> new GenIntListWrapper(new GenericLinkedList<>()));
+        LISTS.put("GenericArrayList", () -> new GenIntListWrapper(new GenericArrayList<>()));
+        LISTS.put("GenericLinkedListRecord", () -> new GenIntListWrapper(new GenericLinkedListRecord<>()));
+        LISTS.put("IntGenericArrayList", () -> new GenIntListWrapper(new IntGenericArrayList()));
+        LISTS.put("PersistentGenericList", () -> new GenIntListWrapper(new PersistentGenericList<>()));
+        LISTS.put("ShardedGenericList", () -> new GenIntListWrapper(new ShardedGenericList<>()));
+    }
+
+    // Largest size measured for lists that cannot go further: GenericLinkedListRecord rebuilds
+    // the chain recursively on every append, so it is O(n^2) and overflows a default stack near 40k
+    static final Map<String, Integer> MAX_SIZES = Map.of("GenericLinkedListRecord", 10_000);
+
+    // The first two columns and AppendTime are what plot_performance.py reads; new columns go at the end
+    static final String CSV_HEADER = "ListType,Size,AppendTime,RetrievalTime,BytesPerElement,AllocPerAppend,"
+            + "AppendP90,AppendP99,AppendStdDev,RetrievalP90,RetrievalP99,RetrievalStdDev,"
+            + "ContainsTime,ContainsP90,ContainsP99,ContainsStdDev";
+    private static final String ROW_PREFIX = "row:"; // marks the CSV rows in a worker JVM's output
+    private static final int PROBES = 16; // contains() calls per timed batch, half of them misses
+
+    enum Operation { APPEND, RETRIEVE, CONTAINS }
 
-    public static void main(String[] args) {
-        try (FileWriter writer = new FileWriter(CSV_FILE)) {
-            writer.append("ListType,Size,AppendTime,RetrievalTime\n");
+    record Config(List<String> lists, int[] sizes, int trials, int warmup, Set<Operation> ops,
+                  int parallel, String output, boolean worker) {
+
+        static final String DEFAULTS = String.join("\n",
+                "lists=all",
+                "sizes=10,100,1000,10000,100000",
+                "trials=10",
+                "warmup=3",
+                "ops=append,retrieve,contains",
+                "parallel=1",
+                "output=performance_data.csv",
+                "worker=false");
+
+        // Defaults, then the --config file, then perf.* system properties, then --key=value arguments
+        static Config parse(String[] args) throws IOException {
+            Properties props = new Properties();
+            props.load(new StringReader(DEFAULTS));
+            Map<String, String> cli = new LinkedHashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+                }
+                int eq = arg.indexOf('=');
+                cli.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+            String file = cli.getOrDefault("config", System.getProperty("perf.config"));
+            if (file != null) {
+                try (FileReader reader = new FileReader(file)) {
+                    props.load(reader);
+                }
+            }
+            for (String key : props.stringPropertyNames()) {
+                String value = System.getProperty("perf." + key);
+                if (value != null) {
+                    props.setProperty(key, value);
+                }
+            }
+            cli.forEach(props::setProperty);
 
-            // Run tests for each list type and size combination
-            for (int n : TEST_SIZES) {
-                runTestsForSize(writer, n);
+            List<String> lists = props.getProperty("lists").equals("all")
+                    ? new ArrayList<>(LISTS.keySet())
+                    : splitList(props.getProperty("lists"));
+            for (String name : lists) {
+                if (!LISTS.containsKey(name)) {
+                    throw new IllegalArgumentException("Unknown list: " + name + ", known lists: " + LISTS.keySet());
+                }
             }
+            int[] sizes = splitList(props.getProperty("sizes")).stream().mapToInt(Integer::parseInt).toArray();
+            Set<Operation> ops = EnumSet.noneOf(Operation.class);
+            for (String op : splitList(props.getProperty("ops"))) {
+                ops.add(Operation.valueOf(op.toUpperCase(Locale.ROOT)));
+            }
+            int trials = Integer.parseInt(props.getProperty("trials"));
+            if (trials < 1) {
+                throw new IllegalArgumentException("Need at least one trial: " + trials);
+            }
+            return new Config(lists, sizes, trials, Integer.parseInt(props.getProperty("warmup")), ops,
+                    Integer.parseInt(props.getProperty("parallel")), props.getProperty("output"),
+                    Boolean.parseBoolean(props.getProperty("worker")));
+        }
+
+        // The arguments that make a worker JVM measure just the one list
+        List<String> workerArgs(String list) {
+            List<String> args = new ArrayList<>();
+            args.add("--worker=true");
+            args.add("--lists=" + list);
+            args.add("--sizes=" + String.join(",", Arrays.stream(sizes).mapToObj(String::valueOf).toList()));
+            args.add("--trials=" + trials);
+            args.add("--warmup=" + warmup);
+            args.add("--ops=" + String.join(",", ops.stream().map(Enum::name).toList()));
+            return args;
+        }
+
+        private static List<String> splitList(String value) {
+            return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        }
+    }
+
+    // Summary of the timed trials of one measurement, in nanoseconds
+    record Stats(long median, long p90, long p99, double stdDev) {
+        static final Stats NONE = new Stats(0, 0, 0, 0);
+
+        static Stats of(List<Long> samples) {
+            List<Long> sorted = new ArrayList<>(samples);
+            Collections.sort(sorted);
+            ListBasedSummary summary = new ListBasedSummary();
+            summary.add(sorted);
+            double stdDev = summary.n() < 2 ? 0 : summary.standardDeviation();
+            return new Stats(sorted.get(sorted.size() / 2), percentile(sorted, 90), percentile(sorted, 99), stdDev);
+        }
 
-            System.out.println("Performance data saved to " + CSV_FILE);
-        } catch (IOException e) {
-            e.printStackTrace();
+        // Nearest-rank percentile
+        private static long percentile(List<Long> sorted, int p) {
+            int rank = (int) Math.ceil(p / 100.0 * sorted.size());
+            return sorted.get(Math.max(0, rank - 1));
         }
     }
 
-    private static void runTestsForSize(FileWriter writer, int n) throws IOException {
-        // Run tests for each list type at the current size `n`
-        if (TEST_IntArrayList) {
-            testIntListPerformance(writer, IntArrayList::new, n, "IntArrayList");
+    public static void main(String[] args) throws Exception {
+        Config config = Config.parse(args);
+        if (config.worker()) {
+            // a forked worker just prints its rows for the parent to collect
+            measureAll(config, config.lists().get(0)).forEach(row -> System.out.println(ROW_PREFIX + row));
+            return;
         }
-        if (TEST_IntLinkedList) {
-            testIntListPerformance(writer, IntLinkedList::new, n, "IntLinkedList");
+        List<String> rows = new ArrayList<>();
+        if (config.parallel() > 0) {
+            rows.addAll(runForked(config));
+        } else {
+            config.lists().forEach(list -> rows.addAll(measureAll(config, list)));
         }
-        if (TEST_EfficientIntArrayList) {
-            testIntListPerformance(writer, EfficientIntArrayList::new, n, "EfficientIntArrayList");
+        // same order as the old serial runs: by size, then by list
+        List<Integer> sizes = Arrays.stream(config.sizes()).boxed().toList();
+        rows.sort(Comparator.<String>comparingInt(row -> sizes.indexOf(Integer.parseInt(row.split(",")[1])))
+                .thenComparingInt(row -> config.lists().indexOf(row.split(",")[0])));
+        try (FileWriter writer = new FileWriter(config.output())) {
+            writer.append(CSV_HEADER).append('\n');
+            for (String row : rows) {
+                writer.append(row).append('\n');
+            }
         }
-        if (TEST_EfficientIntLinkedList) {
-            testIntListPerformance(writer, EfficientIntLinkedList::new, n, "EfficientIntLinkedList");
+        System.out.println("Performance data saved to " + config.output());
+    }
+
+    // Starts one JVM per list, at most config.parallel() at a time, and collects their rows
+    private static List<String> runForked(Config config) throws InterruptedException, ExecutionException {
+        ExecutorService pool = Executors.newFixedThreadPool(config.parallel());
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (String list : config.lists()) {
+                results.add(pool.submit(() -> runWorker(config, list)));
+            }
+            List<String> rows = new ArrayList<>();
+            for (Future<List<String>> result : results) {
+                rows.addAll(result.get());
+            }
+            return rows;
+        } finally {
+            pool.shutdown();
         }
-        if (TEST_GenericLinkedList) {
-            testGenericListPerformance(writer, GenericLinkedList::new, n, "GenericLinkedList");
+    }
+
+    private static List<String> runWorker(Config config, String list) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            command.add("--add-modules");
+            command.add("jdk.incubator.vector");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(PerformanceEvaluator.class.getName());
+        command.addAll(config.workerArgs(list));
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        List<String> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ROW_PREFIX)) {
+                    rows.add(line.substring(ROW_PREFIX.length()));
+                }
+            }
         }
-        if (TEST_GenericArrayList) {
-            testGenericListPerformance(writer, GenericArrayList::new, n, "GenericArrayList");
+        int exit = process.waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException("Worker for " + list + " exited with status " + exit);
         }
-        if (TEST_GenericLinkedListRecord) {
-            testGenericListPerformance(writer, GenericLinkedListRecord::new, n, "GenericLinkedListRecord");
+        System.out.println("Finished " + list);
+        return rows;
+    }
+
+    // One CSV row per size for the given list, skipping sizes above its MAX_SIZES entry
+    static List<String> measureAll(Config config, String listName) {
+        Supplier<IntList> supplier = LISTS.get(listName);
+        int maxSize = MAX_SIZES.getOrDefault(listName, Integer.MAX_VALUE);
+        List<String> rows = new ArrayList<>();
+        for (int n : config.sizes()) {
+            if (n > maxSize) {
+                continue;
+            }
+            Stats append = config.ops().contains(Operation.APPEND) ? measureAppend(supplier, n, config) : Stats.NONE;
+            Stats retrieval = config.ops().contains(Operation.RETRIEVE) ? measureRetrieval(supplier, n, config) : Stats.NONE;
+            Stats contains = config.ops().contains(Operation.CONTAINS) ? measureContains(supplier, n, config) : Stats.NONE;
+            IntList list = supplier.get();
+            long allocated = MemoryHarness.allocatedBy(() -> fill(list, n));
+            rows.add(String.format(Locale.ROOT, "%s,%d,%d,%d,%s,%d,%d,%.1f,%d,%d,%.1f,%d,%d,%d,%.1f",
+                    listName, n, append.median(), retrieval.median(), footprintColumns(list.estimatedBytes(), allocated, n),
+                    append.p90(), append.p99(), append.stdDev(),
+                    retrieval.p90(), retrieval.p99(), retrieval.stdDev(),
+                    contains.median(), contains.p90(), contains.p99(), contains.stdDev()));
+            release(list);
         }
+        return rows;
     }
 
-    private static void testIntListPerformance(FileWriter writer, ListSupplier<IntList> supplier, int n, String listName) throws IOException {
-        long appendTime = measureMedianAppendTimeIntList(supplier, n);
-        long retrievalTime = listName.equals("IntArrayList") ? measureMedianRetrievalTime((IntArrayList) supplier.get(), n) : 0;
-        writer.append(String.format("%s,%d,%d,%d\n", listName, n, appendTime, retrievalTime));
+    // Frees what a list holds outside the heap (OffHeapIntList) as soon as a measurement is done
+    private static void release(IntList list) {
+        if (list instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not close " + list.getClass().getSimpleName(), e);
+            }
+        }
     }
 
-    private static void testGenericListPerformance(FileWriter writer, ListSupplier<GenericList<Integer>> supplier, int n, String listName) throws IOException {
-        long appendTime = measureMedianAppendTimeGenericList(supplier, n);
-        writer.append(String.format("%s,%d,%d,%d\n", listName, n, appendTime, 0));
+    private static void fill(IntList list, int n) {
+        for (int i = 0; i < n; i++) {
+            list.append(i);
+        }
     }
 
-    private static long measureMedianAppendTimeIntList(ListSupplier<IntList> supplier, int n) {
+    // Time to append n values to a new list
+    private static Stats measureAppend(Supplier<IntList> supplier, int n, Config config) {
         List<Long> times = new ArrayList<>();
-        for (int t = 0; t < NUM_TRIALS; t++) {
+        for (int t = 0; t < config.warmup() + config.trials(); t++) {
             IntList list = supplier.get(); // Create a new list instance for each trial
             long startTime = System.nanoTime();
-            for (int i = 0; i < n; i++) {
-                list.append(i);
-            }
+            fill(list, n);
             long timeTaken = System.nanoTime() - startTime;
-            times.add(timeTaken);
+            release(list);
+            if (t >= config.warmup()) {
+                times.add(timeTaken);
+            }
         }
-        Collections.sort(times);
-        return times.get(times.size() / 2); // Median time
+        return Stats.of(times);
     }
 
-    private static long measureMedianAppendTimeGenericList(ListSupplier<GenericList<Integer>> supplier, int n) {
+    // Sink for the retrieved values so the JIT cannot discard the retrieval loop
+    private static long retrievalChecksum;
+
+    // Time to visit every value of a filled list
+    private static Stats measureRetrieval(Supplier<IntList> supplier, int n, Config config) {
+        IntList list = supplier.get();
+        fill(list, n);
         List<Long> times = new ArrayList<>();
-        for (int t = 0; t < NUM_TRIALS; t++) {
-            GenericList<Integer> list = supplier.get(); // Create a new list instance for each trial
+        for (int t = 0; t < config.warmup() + config.trials(); t++) {
+            long[] sum = {0};
             long startTime = System.nanoTime();
-            for (int i = 0; i < n; i++) {
-                list.append(i);
-            }
+            list.forEachInt(value -> sum[0] += value);
             long timeTaken = System.nanoTime() - startTime;
-            times.add(timeTaken);
+            retrievalChecksum += sum[0];
+            if (t >= config.warmup()) {
+                times.add(timeTaken);
+            }
         }
-        Collections.sort(times);
-        return times.get(times.size() / 2); // Median time
+        release(list);
+        return Stats.of(times);
     }
 
-    private static long measureMedianRetrievalTime(IntArrayList list, int n) {
+    // Average time of one contains() call over a batch of hits spread across the list and misses
+    private static Stats measureContains(Supplier<IntList> supplier, int n, Config config) {
+        IntList list = supplier.get();
+        fill(list, n);
+        int[] probes = new int[PROBES];
+        for (int i = 0; i < PROBES; i += 2) {
+            probes[i] = (int) ((long) n * i / PROBES);
+            probes[i + 1] = -1 - i;
+        }
         List<Long> times = new ArrayList<>();
-        for (int t = 0; t < NUM_TRIALS; t++) {
+        for (int t = 0; t < config.warmup() + config.trials(); t++) {
             long startTime = System.nanoTime();
-            for (int i = 0; i < list.getLength(); i++) {
-                int value = list.getValues()[i];
+            for (int probe : probes) {
+                if (list.contains(probe)) {
+                    retrievalChecksum++;
+                }
             }
             long timeTaken = System.nanoTime() - startTime;
-            times.add(timeTaken);
+            if (t >= config.warmup()) {
+                times.add(timeTaken / PROBES);
+            }
         }
-        Collections.sort(times);
-        return times.get(times.size() / 2); // Median time
+        release(list);
+        return Stats.of(times);
     }
 
-    // Functional interface for supplier, similar to Java's Supplier<T> but for custom lists
-    @FunctionalInterface
-    interface ListSupplier<T> {
-        T get();
+    // BytesPerElement from the list's own estimate and AllocPerAppend from the thread allocation counter.
+    // The allocation includes boxing the values for generic lists; the estimate does not.
+    private static String footprintColumns(long estimatedBytes, long allocatedBytes, int n) {
+        return String.format(Locale.ROOT, "%.3f,%.3f", (double) estimatedBytes / n, (double) allocatedBytes / n);
     }
-}
\ No newline at end of file
+}
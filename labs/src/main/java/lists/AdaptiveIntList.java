@@ -0,0 +1,207 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// An IntList that picks its own representation instead of making the caller choose one.
+// It starts as a plain inline array (as fast as EfficientIntArrayList for small lists),
+// moves to an IntHashList once contains() calls have cost more than building the index would,
+// and moves to a SegmentedIntArrayList once it grows past CHUNK_THRESHOLD values, so large
+// lists stop paying for copying the whole array on every resize.
+// Each switch only ever goes in one direction. An inline list copies its values into the new
+// representation; a chunked list keeps its chunks and gets an IntHashIndex built over them,
+// so a large list that is filled first and queried afterwards still stops scanning.
+public class AdaptiveIntList implements IntList {
+    public enum Layout { INLINE, HASHED, CHUNKED }
+
+    private static final int INITIAL_CAPACITY = 16;
+    static final int CHUNK_THRESHOLD = 1 << 16; // values before switching to chunks
+    static final int MIN_INDEX_SIZE = 32; // below this a scan is as fast as a hash lookup
+    // switch to the hash index once contains() has scanned this many times the length:
+    // building the index costs about one pass over the values, so the scans have paid for it
+    static final int INDEX_BUDGET = 4;
+
+    private int[] values; // the inline array, null after switching
+    private int len;
+    private IntList promoted; // the representation after switching, null while inline
+    private IntHashIndex index; // the values of a chunked list once it is HASHED, otherwise null
+    private Layout layout;
+    private long scanned; // values compared by contains() since the last switch
+
+    public AdaptiveIntList() {
+        values = new int[INITIAL_CAPACITY];
+        len = 0;
+        layout = Layout.INLINE;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        if (layout == Layout.HASHED) {
+            return index != null ? index.contains(value) : promoted.contains(value);
+        }
+        int length = length();
+        scanned += length;
+        if (scanned > (long) INDEX_BUDGET * length && length >= MIN_INDEX_SIZE) {
+            if (layout == Layout.INLINE) {
+                switchTo(Layout.HASHED);
+                return promoted.contains(value);
+            }
+            indexChunks();
+            return index.contains(value);
+        }
+        return layout == Layout.INLINE ? IntSearch.contains(values, len, value) : promoted.contains(value);
+    }
+
+    @Override
+    public void append(int value) {
+        if (promoted != null) {
+            promoted.append(value);
+            if (index != null) {
+                index.add(value);
+            }
+            return;
+        }
+        if (len == values.length) {
+            if (len >= CHUNK_THRESHOLD) {
+                switchTo(Layout.CHUNKED);
+                promoted.append(value);
+                return;
+            }
+            values = Arrays.copyOf(values, len * 2);
+        }
+        values[len++] = value;
+    }
+
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        if (promoted == null && this.len + len > CHUNK_THRESHOLD) {
+            switchTo(Layout.CHUNKED);
+        }
+        if (promoted != null) {
+            promoted.appendAll(values, off, len);
+            if (index != null) {
+                index.addAll(values, off, len);
+            }
+            return;
+        }
+        if (this.len + len > this.values.length) {
+            int newCapacity = Math.max(this.len + len, this.values.length * 2);
+            this.values = Arrays.copyOf(this.values, newCapacity);
+        }
+        System.arraycopy(values, off, this.values, this.len, len);
+        this.len += len;
+    }
+
+    @Override
+    public int length() {
+        return promoted == null ? len : promoted.length();
+    }
+
+    @Override
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.object(28);
+        if (values != null) {
+            bytes += MemoryFootprint.intArray(values.length);
+        }
+        if (promoted != null) {
+            bytes += promoted.estimatedBytes();
+        }
+        if (index != null) {
+            bytes += index.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public int get(int index) {
+        if (promoted != null) {
+            return promoted.get(index);
+        }
+        if (index < 0 || index >= len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        return values[index];
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (promoted != null) {
+            promoted.forEachInt(action);
+            return;
+        }
+        for (int i = 0; i < len; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        if (promoted != null) {
+            promoted.copyInto(dest);
+            return;
+        }
+        if (dest.length < len) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + len);
+        }
+        System.arraycopy(values, 0, dest, 0, len);
+    }
+
+    @Override
+    public int[] toArray() {
+        return promoted == null ? Arrays.copyOf(values, len) : promoted.toArray();
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        if (promoted != null) {
+            return promoted.spliterator();
+        }
+        return Spliterators.spliterator(values, 0, len, Spliterator.ORDERED);
+    }
+
+    // The representation currently in use
+    public Layout layout() {
+        return layout;
+    }
+
+    // Copies the inline values into the new representation, which is kept from then on.
+    // A hashed list stays hashed as it grows: IntHashList keeps a flat array too, and its
+    // contains() is what the caller has been using.
+    private void switchTo(Layout target) {
+        IntList next = target == Layout.HASHED ? new IntHashList() : new SegmentedIntArrayList();
+        next.appendAll(values, 0, len);
+        promoted = next;
+        values = null;
+        len = 0;
+        layout = target;
+        scanned = 0;
+    }
+
+    // Indexes a chunked list where it is: copying it into an IntHashList would bring back the
+    // flat array the chunks were chosen to avoid. New values go into the chunks and the index.
+    private void indexChunks() {
+        IntHashIndex chunkIndex = new IntHashIndex();
+        promoted.forEachInt(chunkIndex::add);
+        index = chunkIndex;
+        layout = Layout.HASHED;
+        scanned = 0;
+    }
+
+    public static void main(String[] args) {
+        AdaptiveIntList list = new AdaptiveIntList();
+        for (int i = 0; i < 1000; i++) {
+            list.append(i);
+        }
+        System.out.println(list.layout()); // Expected output: INLINE
+        for (int i = 0; i < 10; i++) {
+            list.contains(i);
+        }
+        System.out.println(list.layout()); // Expected output: HASHED
+        System.out.println(list.contains(999)); // Expected output: true
+        System.out.println(list.length()); // Expected output: 1000
+    }
+}
@@ -1,5 +1,6 @@
 package lists;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 
 public class BreakListIterator {
@@ -18,5 +19,20 @@ public class BreakListIterator {
             System.out.println(it.next());
         }
 //        System.out.println(it.next());
+
+        // appending while iterating is now detected on the next call to next()
+        try {
+            for (Integer i : list) {
+                list.append(i);
+            }
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Caught " + e);
+        }
+        // a snapshot ignores the appends made while it is walked
+        Iterator<Integer> snapshot = list.snapshotIterator();
+        while (snapshot.hasNext()) {
+            list.append(snapshot.next());
+        }
+        System.out.println(list.length()); // Expected output: 8
     }
 }
@@ -0,0 +1,262 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// An append-only IntList that stores its values compressed, for lists of mostly increasing ids.
+// Values are collected into blocks of 128. A full block is stored as its first value plus the
+// differences between neighbours; the differences are stored relative to the smallest one
+// (frame of reference) using just enough bits for the largest, all packed into a shared long[].
+// A run like 0, 1, 2, ... has every difference equal, so its blocks need 0 bits per value.
+// Each block also keeps its min and max so contains() only decodes blocks that could hold the value.
+public class CompressedIntList implements IntList {
+    static final int BLOCK_SIZE = 128;
+    private static final int INITIAL_BLOCKS = 4;
+    private static final double GROWTH_FACTOR = 1.5;
+
+    // per-block metadata, indexed by block number
+    private int[] first; // the first value of the block
+    private int[] minDelta; // the smallest difference between neighbouring values
+    private int[] min;
+    private int[] max;
+    private byte[] bits; // bits per packed difference, 0..32
+    private int[] offset; // index of the block's first word in words
+    private int blocks;
+
+    private long[] words; // the packed differences of every block
+    private int wordCount;
+
+    private final int[] tail; // values of the block still being filled
+    private int tailLen;
+
+    public CompressedIntList() {
+        first = new int[INITIAL_BLOCKS];
+        minDelta = new int[INITIAL_BLOCKS];
+        min = new int[INITIAL_BLOCKS];
+        max = new int[INITIAL_BLOCKS];
+        bits = new byte[INITIAL_BLOCKS];
+        offset = new int[INITIAL_BLOCKS];
+        words = new long[INITIAL_BLOCKS];
+        tail = new int[BLOCK_SIZE];
+    }
+
+    // Skips every block whose min..max range does not include the value.
+    // Blocks are decoded into a buffer local to the call, so concurrent readers, or a
+    // forEachInt() action that calls contains(), cannot overwrite each other's values.
+    @Override
+    public boolean contains(int value) {
+        int[] block = null;
+        for (int b = 0; b < blocks; b++) {
+            if (value < min[b] || value > max[b]) {
+                continue;
+            }
+            if (block == null) {
+                block = new int[BLOCK_SIZE];
+            }
+            decode(b, block);
+            for (int v : block) {
+                if (v == value) {
+                    return true;
+                }
+            }
+        }
+        for (int i = 0; i < tailLen; i++) {
+            if (tail[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void append(int value) {
+        tail[tailLen++] = value;
+        if (tailLen == BLOCK_SIZE) {
+            if (blocks == Integer.MAX_VALUE / BLOCK_SIZE) {
+                throw new IllegalStateException("CompressedIntList is full");
+            }
+            encode();
+            tailLen = 0;
+        }
+    }
+
+    @Override
+    public int length() {
+        return blocks * BLOCK_SIZE + tailLen;
+    }
+
+    // Unlike bytesPerElement() this includes spare capacity, the tail block and object headers
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(44)
+                + 5 * MemoryFootprint.intArray(first.length)
+                + MemoryFootprint.array(bits.length, 1)
+                + MemoryFootprint.array(words.length, Long.BYTES)
+                + MemoryFootprint.intArray(BLOCK_SIZE);
+    }
+
+    // Decodes the block up to the index instead of the whole block
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length());
+        }
+        int b = index / BLOCK_SIZE;
+        int i = index % BLOCK_SIZE;
+        if (b == blocks) {
+            return tail[i];
+        }
+        int value = first[b];
+        long bitPos = (long) offset[b] * Long.SIZE;
+        for (int k = 0; k < i; k++) {
+            value += minDelta[b] + (int) read(bitPos, bits[b]);
+            bitPos += bits[b];
+        }
+        return value;
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        int[] block = new int[BLOCK_SIZE];
+        for (int b = 0; b < blocks; b++) {
+            decode(b, block);
+            for (int v : block) {
+                action.accept(v);
+            }
+        }
+        for (int i = 0; i < tailLen; i++) {
+            action.accept(tail[i]);
+        }
+    }
+
+    // Decodes each block straight into the destination
+    @Override
+    public void copyInto(int[] dest) {
+        if (dest.length < length()) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + length());
+        }
+        int[] block = new int[BLOCK_SIZE];
+        for (int b = 0; b < blocks; b++) {
+            decode(b, block);
+            System.arraycopy(block, 0, dest, b * BLOCK_SIZE, BLOCK_SIZE);
+        }
+        System.arraycopy(tail, 0, dest, blocks * BLOCK_SIZE, tailLen);
+    }
+
+    // Bytes used by the stored values, metadata and the tail, divided by the number of values
+    public double bytesPerElement() {
+        if (length() == 0) {
+            return 0;
+        }
+        long metadata = (long) blocks * (5 * Integer.BYTES + 1);
+        long packed = (long) wordCount * Long.BYTES;
+        long tailBytes = (long) tailLen * Integer.BYTES;
+        return (double) (metadata + packed + tailBytes) / length();
+    }
+
+    // Seals the full tail as a new block
+    private void encode() {
+        if (blocks == first.length) {
+            growBlocks();
+        }
+        int lo = tail[0];
+        int hi = tail[0];
+        int smallest = Integer.MAX_VALUE;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            lo = Math.min(lo, tail[i]);
+            hi = Math.max(hi, tail[i]);
+            smallest = Math.min(smallest, tail[i] - tail[i - 1]);
+        }
+        // differences wrap around like int arithmetic, so each one minus the smallest fits in 32 unsigned bits
+        long largest = 0;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            largest = Math.max(largest, (long) (tail[i] - tail[i - 1]) - smallest);
+        }
+        int width = Long.SIZE - Long.numberOfLeadingZeros(largest);
+        int needed = (int) (((long) (BLOCK_SIZE - 1) * width + Long.SIZE - 1) / Long.SIZE);
+        if (wordCount + needed > words.length) {
+            words = Arrays.copyOf(words, Math.max(wordCount + needed, (int) (words.length * GROWTH_FACTOR)));
+        }
+        long bitPos = (long) wordCount * Long.SIZE;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            write(bitPos, width, (long) (tail[i] - tail[i - 1]) - smallest);
+            bitPos += width;
+        }
+        first[blocks] = tail[0];
+        minDelta[blocks] = smallest;
+        min[blocks] = lo;
+        max[blocks] = hi;
+        bits[blocks] = (byte) width;
+        offset[blocks] = wordCount;
+        wordCount += needed;
+        blocks++;
+    }
+
+    private void decode(int b, int[] out) {
+        int width = bits[b];
+        int delta = minDelta[b];
+        int value = first[b];
+        out[0] = value;
+        if (width == 0) {
+            for (int i = 1; i < BLOCK_SIZE; i++) {
+                value += delta;
+                out[i] = value;
+            }
+            return;
+        }
+        long bitPos = (long) offset[b] * Long.SIZE;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            value += delta + (int) read(bitPos, width);
+            out[i] = value;
+            bitPos += width;
+        }
+    }
+
+    // Reads width bits starting at bitPos; a value may straddle two words
+    private long read(long bitPos, int width) {
+        if (width == 0) {
+            return 0;
+        }
+        int w = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        long x = words[w] >>> shift;
+        if (shift + width > Long.SIZE) {
+            x |= words[w + 1] << (Long.SIZE - shift);
+        }
+        return x & ((1L << width) - 1);
+    }
+
+    // The words are still zero where a new block is written, so the bits can just be or-ed in
+    private void write(long bitPos, int width, long value) {
+        if (width == 0) {
+            return;
+        }
+        int w = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        words[w] |= value << shift;
+        if (shift + width > Long.SIZE) {
+            words[w + 1] |= value >>> (Long.SIZE - shift);
+        }
+    }
+
+    private void growBlocks() {
+        int newCapacity = (int) (first.length * GROWTH_FACTOR) + 1;
+        first = Arrays.copyOf(first, newCapacity);
+        minDelta = Arrays.copyOf(minDelta, newCapacity);
+        min = Arrays.copyOf(min, newCapacity);
+        max = Arrays.copyOf(max, newCapacity);
+        bits = Arrays.copyOf(bits, newCapacity);
+        offset = Arrays.copyOf(offset, newCapacity);
+    }
+
+    public static void main(String[] args) {
+        CompressedIntList list = new CompressedIntList();
+        for (int i = 0; i < 1_000_000; i++) {
+            list.append(i);
+        }
+        System.out.println(list.contains(765_432)); // Expected output: true
+        System.out.println(list.contains(-1)); // Expected output: false
+        System.out.println(list.get(999_999)); // Expected output: 999999
+        System.out.printf("%.3f bytes per element%n", list.bytesPerElement());
+    }
+}
@@ -0,0 +1,181 @@
+package lists;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+// An IntList that many threads can append to at once without taking a lock.
+// Each append reserves a slot with a single atomic increment, writes its value into a
+// pre-allocated chunk and then marks the slot as published. Readers only ever look at
+// published slots, so contains() is safe to call while other threads are appending.
+// length() is the number of appends that have completed and is a single volatile read.
+public class ConcurrentIntList implements IntList {
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // ints per chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CHUNKS = 1 << (31 - CHUNK_SHIFT);
+    private static final int CAPACITY = Integer.MAX_VALUE; // slots 0 .. CAPACITY - 1
+    private static final VarHandle READY = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final AtomicReferenceArray<Chunk> chunks;
+    // slots handed out to appenders; a long, so appends to a full list cannot wrap it around
+    private final AtomicLong reserved;
+    private final AtomicInteger published; // appends that have finished writing
+
+    public ConcurrentIntList() {
+        chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+        chunks.set(0, new Chunk());
+        reserved = new AtomicLong();
+        published = new AtomicInteger();
+    }
+
+    // Scans every reserved slot but skips the ones whose append is still in progress
+    @Override
+    public boolean contains(int value) {
+        int end = (int) Math.min(reserved.get(), CAPACITY);
+        int nChunks = end == 0 ? 0 : ((end - 1) >>> CHUNK_SHIFT) + 1;
+        for (int c = 0; c < nChunks; c++) {
+            Chunk chunk = chunks.get(c);
+            if (chunk == null) {
+                continue;
+            }
+            int n = Math.min(end - (c << CHUNK_SHIFT), CHUNK_SIZE);
+            for (int i = 0; i < n; i++) {
+                // the flag has to be read first so the value read after it is the published one
+                if ((byte) READY.getAcquire(chunk.ready, i) != 0 && chunk.values[i] == value) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void append(int value) {
+        long reservation = reserved.getAndIncrement();
+        if (reservation >= CAPACITY) {
+            throw new IllegalStateException("ConcurrentIntList is full");
+        }
+        int index = (int) reservation;
+        int offset = index & CHUNK_MASK;
+        Chunk chunk = chunkFor(index >>> CHUNK_SHIFT);
+        if (offset == 0) {
+            // the first appender into a chunk allocates the next one ahead of time
+            installChunk((index >>> CHUNK_SHIFT) + 1);
+        }
+        chunk.values[offset] = value;
+        READY.setRelease(chunk.ready, offset, (byte) 1);
+        published.incrementAndGet();
+    }
+
+    @Override
+    public int length() {
+        return published.get();
+    }
+
+    // The chunk directory is allocated up front for the maximum size; chunks as they are installed
+    @Override
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.object(12)
+                + MemoryFootprint.object(REFERENCE) + MemoryFootprint.referenceArray(MAX_CHUNKS)
+                + MemoryFootprint.object(Long.BYTES) + MemoryFootprint.object(Integer.BYTES);
+        for (int c = 0; c < MAX_CHUNKS && chunks.get(c) != null; c++) {
+            bytes += MemoryFootprint.object(2 * REFERENCE)
+                    + MemoryFootprint.intArray(CHUNK_SIZE)
+                    + MemoryFootprint.array(CHUNK_SIZE, 1);
+        }
+        return bytes;
+    }
+
+    // Only indexes below length() are valid. Appends can finish out of order, so one of those
+    // slots may still be being written by an append that has reserved it; get() then blocks,
+    // spinning until that append publishes it, which it does without waiting on anything else.
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length());
+        }
+        Chunk chunk = chunkFor(index >>> CHUNK_SHIFT);
+        int offset = index & CHUNK_MASK;
+        while ((byte) READY.getAcquire(chunk.ready, offset) == 0) {
+            Thread.onSpinWait();
+        }
+        return chunk.values[offset];
+    }
+
+    // Visits the first length() values, as seen when the call starts
+    @Override
+    public void forEachInt(IntConsumer action) {
+        int n = length();
+        for (int i = 0; i < n; i++) {
+            action.accept(get(i));
+        }
+    }
+
+    @Override
+    public int[] toArray() {
+        int n = length();
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        int n = length();
+        if (dest.length < n) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + n);
+        }
+        for (int i = 0; i < n; i++) {
+            dest[i] = get(i);
+        }
+    }
+
+    private Chunk chunkFor(int chunkIndex) {
+        Chunk chunk = chunks.get(chunkIndex);
+        return chunk != null ? chunk : installChunk(chunkIndex);
+    }
+
+    // Several threads may race to create the same chunk; the first one to swap it in wins
+    private Chunk installChunk(int chunkIndex) {
+        if (chunkIndex >= MAX_CHUNKS) {
+            return null;
+        }
+        Chunk chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            chunks.compareAndSet(chunkIndex, null, new Chunk());
+            chunk = chunks.get(chunkIndex);
+        }
+        return chunk;
+    }
+
+    // A block of values plus one published flag per value
+    private static final class Chunk {
+        final int[] values = new int[CHUNK_SIZE];
+        final byte[] ready = new byte[CHUNK_SIZE];
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentIntList list = new ConcurrentIntList();
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            int base = t * 1000;
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    list.append(base + i);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        System.out.println(list.length()); // Expected output: 4000
+        System.out.println(list.contains(3999)); // Expected output: true
+    }
+}
@@ -1,25 +1,82 @@
 package lists;
 
+import java.util.function.IntConsumer;
+
 public class GenIntListWrapper implements IntList {
     @Override
     public boolean contains(int value) {
+        if (ints != null) {
+            return ints.contains(value);
+        }
         return list.contains(value);
     }
 
     @Override
     public void append(int value) {
+        if (ints != null) {
+            ints.append(value);
+            return;
+        }
         list.append(value);
     }
 
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        if (ints != null) {
+            ints.appendAll(values, off, len);
+            return;
+        }
+        IntList.super.appendAll(values, off, len);
+    }
+
     @Override
     public int length() {
         return list.length();
     }
 
+    // The wrapper itself plus the wrapped list
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(2 * REFERENCE) + list.estimatedBytes();
+    }
+
+    // GenericList has no indexed access, so walk the iterator to the index
+    @Override
+    public int get(int index) {
+        if (ints != null) {
+            return ints.get(index);
+        }
+        if (index < 0 || index >= list.length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + list.length());
+        }
+        int i = 0;
+        for (Integer value : list) {
+            if (i++ == index) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + list.length());
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (ints != null) {
+            ints.forEachInt(action);
+            return;
+        }
+        for (Integer value : list) {
+            action.accept(value);
+        }
+    }
+
     // This is wraps a generic list as an IntList
     private final GenericList<Integer> list;
+    // The same list seen as an IntList when it can store ints unboxed (e.g. IntGenericArrayList),
+    // otherwise null; the int methods go straight to it and skip the boxing
+    private final IntList ints;
 
     public GenIntListWrapper(GenericList<Integer> list) {
         this.list = list;
+        this.ints = list instanceof IntList intList ? intList : null;
     }
 }
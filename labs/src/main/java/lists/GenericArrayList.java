@@ -1,11 +1,33 @@
 package lists;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 public class GenericArrayList<T> implements GenericList<T> {
     private static final int INITIAL_CAPACITY = 10; // Initial capacity for the array
     private T[] values;
     private int len;
+    private int modCount; // counts appends so iterators can detect them
+
+    // values and len are published with release/acquire so that snapshotIterator()
+    // can be used from another thread while this one keeps appending
+    private static final VarHandle VALUES;
+    private static final VarHandle LEN;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            VALUES = lookup.findVarHandle(GenericArrayList.class, "values", Object[].class);
+            LEN = lookup.findVarHandle(GenericArrayList.class, "len", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     public GenericArrayList() {
         values = (T[]) new Object[INITIAL_CAPACITY];
@@ -30,14 +52,16 @@ public class GenericArrayList<T> implements GenericList<T> {
         if (len == values.length) {
             resize();
         }
-        values[len++] = value;
+        values[len] = value;
+        modCount++;
+        LEN.setRelease(this, len + 1); // the value is visible before the new length
     }
 
     // Doubles the array size to optimize append operations
     private void resize() {
         T[] newValues = (T[]) new Object[values.length * 2];
         System.arraycopy(values, 0, newValues, 0, len);
-        values = newValues;
+        VALUES.setRelease(this, newValues); // the copied values are visible before the new array
     }
 
     @Override
@@ -45,18 +69,46 @@ public class GenericArrayList<T> implements GenericList<T> {
         return len;
     }
 
+    // The references only; the elements themselves are not counted
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(12) + MemoryFootprint.referenceArray(values.length);
+    }
+
+    // Fail-fast: throws ConcurrentModificationException if the list is appended to during iteration
     @Override
     public Iterator<T> iterator() {
         return new GenericArrayListIterator<>(this);
     }
 
+    // Iterates over the values present now, ignoring any later appends.
+    // The list only ever writes past the current length and resize() copies into a new array,
+    // so the snapshot shares the backing array instead of copying it, and it is safe to
+    // iterate on another thread without locking while this list keeps being appended to.
+    public Iterator<T> snapshotIterator() {
+        int n = (int) LEN.getAcquire(this);
+        T[] array = (T[]) VALUES.getAcquire(this);
+        return new SnapshotIterator<>(array, n);
+    }
+
+    // Splits a snapshot of the backing array by index
+    @Override
+    public Spliterator<T> spliterator() {
+        int n = (int) LEN.getAcquire(this);
+        Object[] array = (Object[]) VALUES.getAcquire(this);
+        return Spliterators.spliterator(array, 0, n, Spliterator.ORDERED);
+    }
+
     private static class GenericArrayListIterator<T> implements Iterator<T> {
         private int index;
         private final GenericArrayList<T> list;
 
+        private final int expectedModCount;
+
         public GenericArrayListIterator(GenericArrayList<T> list) {
             this.list = list;
             index = 0;
+            expectedModCount = list.modCount;
         }
 
         @Override
@@ -66,10 +118,41 @@ public class GenericArrayList<T> implements GenericList<T> {
 
         @Override
         public T next() {
+            if (list.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (index >= list.len) {
+                throw new NoSuchElementException();
+            }
             return list.values[index++];
         }
     }
 
+    private static class SnapshotIterator<T> implements Iterator<T> {
+        private final T[] values;
+        private final int len;
+        private int index;
+
+        public SnapshotIterator(T[] values, int len) {
+            this.values = values;
+            this.len = len;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < len;
+        }
+
+        @Override
+        public T next() {
+            if (index >= len) {
+                throw new NoSuchElementException();
+            }
+            return values[index++];
+        }
+    }
+
     public static void main(String[] args) {
         GenericArrayList<Integer> list = new GenericArrayList<>();
         list.append(1);
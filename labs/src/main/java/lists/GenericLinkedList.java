@@ -1,9 +1,13 @@
 package lists;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 class GenericNode<T> {
-    T value;
+    final T value;
     GenericNode<T> next;
 
     public GenericNode(T value) {
@@ -16,6 +20,19 @@ public class GenericLinkedList<T> implements GenericList<T> {
     private GenericNode<T> head;
     private GenericNode<T> tail;
     private int len;
+    private int modCount; // counts appends so iterators can detect them
+
+    // len is published with release/acquire so that snapshotIterator()
+    // can be used from another thread while this one keeps appending
+    private static final VarHandle LEN;
+
+    static {
+        try {
+            LEN = MethodHandles.lookup().findVarHandle(GenericLinkedList.class, "len", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     public GenericLinkedList() {
         head = null;
@@ -47,7 +64,8 @@ public class GenericLinkedList<T> implements GenericList<T> {
             tail.next = newNode;
             tail = newNode;
         }
-        len++;
+        modCount++;
+        LEN.setRelease(this, len + 1); // the new node is visible before the new length
     }
 
     @Override
@@ -55,15 +73,34 @@ public class GenericLinkedList<T> implements GenericList<T> {
         return len; // Returns the current length of the list
     }
 
+    // One node (two references) per value; the elements themselves are not counted
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(16) + len * MemoryFootprint.object(2 * REFERENCE);
+    }
+
+    // Fail-fast: throws ConcurrentModificationException if the list is appended to during iteration
     @Override
     public Iterator<T> iterator() {
         return new GenericLinkedListIterator<>(this);
     }
 
+    // Iterates over the values present now, ignoring any later appends.
+    // Existing nodes are never changed, so the snapshot only needs the head and the length
+    // and can be walked on another thread without locking while appends continue.
+    public Iterator<T> snapshotIterator() {
+        int n = (int) LEN.getAcquire(this);
+        return new SnapshotIterator<>(head, n);
+    }
+
     private static class GenericLinkedListIterator<T> implements Iterator<T> {
+        private final GenericLinkedList<T> list;
+        private final int expectedModCount;
         private GenericNode<T> current;
 
         public GenericLinkedListIterator(GenericLinkedList<T> list) {
+            this.list = list;
+            expectedModCount = list.modCount;
             current = list.head;
         }
 
@@ -74,12 +111,44 @@ public class GenericLinkedList<T> implements GenericList<T> {
 
         @Override
         public T next() {
+            if (list.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
             T value = current.value; // Retrieves the current value
             current = current.next;  // Moves to the next node
             return value;
         }
     }
 
+    private static class SnapshotIterator<T> implements Iterator<T> {
+        private GenericNode<T> current;
+        private int remaining;
+
+        public SnapshotIterator(GenericNode<T> head, int len) {
+            current = head;
+            remaining = len;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            T value = current.value;
+            current = current.next;
+            remaining--;
+            return value;
+        }
+    }
+
     public static void main(String[] args) {
         GenericLinkedList<Integer> list = new GenericLinkedList<>();
         list.append(1);
@@ -52,6 +52,12 @@ public class GenericLinkedListRecord<T> implements GenericList<T> {
         return len;
     }
 
+    // One record node (two references) per value; the elements themselves are not counted
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(8) + len * MemoryFootprint.object(2 * REFERENCE);
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new GenericLinkedListRecordIterator<T>(this);
@@ -1,10 +1,30 @@
 package lists;
 
-public interface GenericList<T> extends Iterable<T> {
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface GenericList<T> extends Iterable<T>, MemoryFootprint {
     boolean contains(T value);
 
     void append(T value);
 
     int length();
-}
 
+    // Sized spliterator over the iterator; it splits off batches of values,
+    // which is the best a list without indexed access can do.
+    // Array-backed lists override this to split by index.
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), length(), Spliterator.ORDERED);
+    }
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+}
@@ -1,5 +1,11 @@
 package lists;
 
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
 public class IntArrayList implements IntList {
     private int[] values;
     private int len;
@@ -19,12 +25,17 @@ public class IntArrayList implements IntList {
 
     @Override
     public boolean contains(int value) {
-        for (int i = 0; i < len; i++) {
-            if (values[i] == value) {
-                return true;
-            }
-        }
-        return false;
+        return IntSearch.contains(values, len, value);
+    }
+
+    // Returns the index of the first occurrence of value, or -1 if it is not in the list
+    public int indexOf(int value) {
+        return IntSearch.indexOf(values, len, value);
+    }
+
+    // Returns how many times value occurs in the list
+    public int count(int value) {
+        return IntSearch.count(values, len, value);
     }
 
     @Override
@@ -38,11 +49,61 @@ public class IntArrayList implements IntList {
         len++;
     }
 
+    // Grows the array once for the whole batch instead of once per value
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        int[] newValues = new int[this.len + len];
+        System.arraycopy(this.values, 0, newValues, 0, this.len);
+        System.arraycopy(values, off, newValues, this.len, len);
+        this.values = newValues;
+        this.len += len;
+    }
+
     @Override
     public int length() {
         return len;
     }
 
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(8) + MemoryFootprint.intArray(values.length);
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        return values[index];
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (int i = 0; i < len; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        if (dest.length < len) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + len);
+        }
+        System.arraycopy(values, 0, dest, 0, len);
+    }
+
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(values, len);
+    }
+
+    // Splits the backing array by index
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(values, 0, len, Spliterator.ORDERED);
+    }
+
     public static void main(String[] args) {
         IntArrayList list = new IntArrayList();
         list.append(1);
@@ -0,0 +1,144 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// A GenericList<Integer> that is also an IntList, storing its values unboxed in a single int[].
+// GenIntListWrapper spots that the wrapped list is an IntList and calls the int methods directly,
+// so wrapping one of these costs no boxing or Integer allocation on append or contains.
+// Only the GenericList methods (append(Integer), iterator()) box or unbox.
+public class IntGenericArrayList implements GenericList<Integer>, IntList {
+    private static final int INITIAL_CAPACITY = 10;
+    private static final double GROWTH_FACTOR = 1.5;
+    private int[] values;
+    private int len;
+
+    public IntGenericArrayList() {
+        values = new int[INITIAL_CAPACITY];
+        len = 0;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return IntSearch.contains(values, len, value);
+    }
+
+    // A null can never be in the list, so it is simply not found
+    @Override
+    public boolean contains(Integer value) {
+        return value != null && contains(value.intValue());
+    }
+
+    @Override
+    public void append(int value) {
+        if (len == values.length) {
+            values = Arrays.copyOf(values, (int) (values.length * GROWTH_FACTOR));
+        }
+        values[len++] = value;
+    }
+
+    @Override
+    public void append(Integer value) {
+        append(Objects.requireNonNull(value, "IntGenericArrayList cannot hold null").intValue());
+    }
+
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        if (this.len + len > this.values.length) {
+            int newCapacity = Math.max(this.len + len, (int) (this.values.length * GROWTH_FACTOR));
+            this.values = Arrays.copyOf(this.values, newCapacity);
+        }
+        System.arraycopy(values, off, this.values, this.len, len);
+        this.len += len;
+    }
+
+    @Override
+    public int length() {
+        return len;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(8) + MemoryFootprint.intArray(values.length);
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        return values[index];
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (int i = 0; i < len; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        if (dest.length < len) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + len);
+        }
+        System.arraycopy(values, 0, dest, 0, len);
+    }
+
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(values, len);
+    }
+
+    // Splits the backing array by index
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(values, 0, len, Spliterator.ORDERED);
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new IntGenericArrayListIterator(this);
+    }
+
+    private static class IntGenericArrayListIterator implements Iterator<Integer> {
+        private final IntGenericArrayList list;
+        private int index;
+
+        public IntGenericArrayListIterator(IntGenericArrayList list) {
+            this.list = list;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < list.len;
+        }
+
+        @Override
+        public Integer next() {
+            if (index >= list.len) {
+                throw new NoSuchElementException();
+            }
+            return list.values[index++];
+        }
+    }
+
+    public static void main(String[] args) {
+        IntGenericArrayList list = new IntGenericArrayList();
+        list.append(1);
+        list.append(Integer.valueOf(2));
+        System.out.println("List contains 1: " + list.contains(1)); // Expected: true
+        System.out.println("List contains 3: " + list.contains(3)); // Expected: false
+        System.out.println("List length: " + list.length()); // Expected: 2
+        for (Integer item : list) {
+            System.out.println(item);
+        }
+    }
+}
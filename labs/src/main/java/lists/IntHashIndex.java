@@ -0,0 +1,84 @@
+package lists;
+
+// The distinct values of an int list in an open-addressing hash table with linear probing,
+// so contains() is O(1). It only answers membership: the list that owns it keeps the values
+// and their order (IntHashList in a flat array, AdaptiveIntList in chunks).
+class IntHashIndex implements MemoryFootprint {
+    private static final int INITIAL_TABLE_SIZE = 16; // must be a power of two
+    private static final int FREE = 0; // marks an empty slot in the table
+
+    private int[] table = new int[INITIAL_TABLE_SIZE]; // distinct non-zero values
+    private int distinct; // number of distinct values stored in the table
+    private boolean hasZero; // zero is tracked separately because it is the FREE marker
+
+    boolean contains(int value) {
+        if (value == FREE) {
+            return hasZero;
+        }
+        int mask = table.length - 1;
+        int slot = hash(value) & mask;
+        while (table[slot] != FREE) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    // Adds the value to the hash table if it is not already there
+    void add(int value) {
+        if (value == FREE) {
+            hasZero = true;
+            return;
+        }
+        if (insert(table, value)) {
+            distinct++;
+            // keep the load factor at or below 0.5 so probe sequences stay short
+            if (distinct * 2 > table.length) {
+                rehash();
+            }
+        }
+    }
+
+    void addAll(int[] values, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            add(values[i]);
+        }
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(9) + MemoryFootprint.intArray(table.length);
+    }
+
+    // Returns true if the value was newly inserted
+    private static boolean insert(int[] table, int value) {
+        int mask = table.length - 1;
+        int slot = hash(value) & mask;
+        while (table[slot] != FREE) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        return true;
+    }
+
+    private void rehash() {
+        int[] newTable = new int[table.length * 2];
+        for (int value : table) {
+            if (value != FREE) {
+                insert(newTable, value);
+            }
+        }
+        table = newTable;
+    }
+
+    // Spreads the bits so sequential ids don't cluster in neighbouring slots
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,109 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// An IntList that keeps its values in append order (like EfficientIntArrayList)
+// but also indexes the distinct values in an open-addressing hash table (IntHashIndex),
+// so contains() is O(1) instead of a linear scan.
+// Duplicates are still allowed: length() counts every append.
+public class IntHashList implements IntList {
+    private static final int INITIAL_CAPACITY = 10;
+    private static final double GROWTH_FACTOR = 1.5;
+
+    private int[] values; // all appended values in order
+    private int len;
+    private final IntHashIndex index = new IntHashIndex();
+
+    public IntHashList() {
+        values = new int[INITIAL_CAPACITY];
+        len = 0;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return index.contains(value);
+    }
+
+    @Override
+    public void append(int value) {
+        if (len == values.length) {
+            int[] newValues = new int[(int) (values.length * GROWTH_FACTOR)];
+            System.arraycopy(values, 0, newValues, 0, len);
+            values = newValues;
+        }
+        values[len++] = value;
+        index.add(value);
+    }
+
+    // Grows the value array once for the whole batch; each value still has to be indexed
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        if (this.len + len > this.values.length) {
+            int newCapacity = Math.max(this.len + len, (int) (this.values.length * GROWTH_FACTOR));
+            this.values = Arrays.copyOf(this.values, newCapacity);
+        }
+        System.arraycopy(values, off, this.values, this.len, len);
+        this.len += len;
+        index.addAll(values, off, len);
+    }
+
+    @Override
+    public int length() {
+        return len;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(12) + MemoryFootprint.intArray(values.length) + index.estimatedBytes();
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        return values[index];
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (int i = 0; i < len; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        if (dest.length < len) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + len);
+        }
+        System.arraycopy(values, 0, dest, 0, len);
+    }
+
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(values, len);
+    }
+
+    // Splits the backing array by index
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(values, 0, len, Spliterator.ORDERED);
+    }
+
+    public static void main(String[] args) {
+        IntHashList list = new IntHashList();
+        list.append(1);
+        list.append(2);
+        list.append(3);
+        list.append(2);
+        System.out.println(list.contains(2)); // Expected output: true
+        System.out.println(list.contains(4)); // Expected output: false
+        System.out.println(list.length()); // Expected output: 4
+    }
+}
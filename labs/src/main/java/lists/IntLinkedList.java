@@ -1,5 +1,12 @@
 package lists;
 
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
 public class IntLinkedList implements IntList {
     private IntNode head;
     private IntNode tail;
@@ -44,11 +51,103 @@ public class IntLinkedList implements IntList {
         len++;
     }
 
+    // Links the batch into a chain of its own, then attaches it to the tail once
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        if (len == 0) {
+            return;
+        }
+        IntNode first = new IntNode(values[off]);
+        IntNode last = first;
+        for (int i = off + 1; i < off + len; i++) {
+            last.next = new IntNode(values[i]);
+            last = last.next;
+        }
+        if (head == null) {
+            head = first;
+        } else {
+            tail.next = first;
+        }
+        tail = last;
+        this.len += len;
+    }
+
     @Override
     public int length() {
         return len;
     }
 
+    // One node object (an int and a reference) per value
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(12) + len * MemoryFootprint.object(Integer.BYTES + REFERENCE);
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        IntNode current = head;
+        for (int i = 0; i < index; i++) {
+            current = current.next;
+        }
+        return current.value;
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (IntNode current = head; current != null; current = current.next) {
+            action.accept(current.value);
+        }
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        if (dest.length < len) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + len);
+        }
+        int i = 0;
+        for (IntNode current = head; current != null; current = current.next) {
+            dest[i++] = current.value;
+        }
+    }
+
+    // Walks the nodes, splitting off batches of values for parallel streams.
+    // It stops after the values present when it was created, so the SIZED count it reports
+    // stays true even if more are appended while it is in use.
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(new IntLinkedListIterator(head, len), len, Spliterator.ORDERED);
+    }
+
+    private static class IntLinkedListIterator implements PrimitiveIterator.OfInt {
+        private IntNode current;
+        private int remaining;
+
+        public IntLinkedListIterator(IntNode head, int length) {
+            current = head;
+            remaining = length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            int value = current.value;
+            current = current.next;
+            remaining--;
+            return value;
+        }
+    }
+
     public static void main(String[] args) {
         IntLinkedList list = new IntLinkedList();
         list.append(1);
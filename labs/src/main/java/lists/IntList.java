@@ -1,6 +1,13 @@
 package lists;
 
-public interface IntList {
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public interface IntList extends MemoryFootprint {
     // this non-generic interface
     // is used as a starting point
     boolean contains(int value);
@@ -9,5 +16,54 @@ public interface IntList {
 
     int length();
 
-}
+    // Returns the value at the given position (0 is the first value appended)
+    int get(int index);
+
+    // Appends values[off .. off + len - 1] in order.
+    // Implementations override this to do a single capacity check for the whole batch.
+    default void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        for (int i = off; i < off + len; i++) {
+            append(values[i]);
+        }
+    }
+
+    // Calls the action on every value in order
+    default void forEachInt(IntConsumer action) {
+        int n = length();
+        for (int i = 0; i < n; i++) {
+            action.accept(get(i));
+        }
+    }
+
+    // Copies the values into the start of dest, which must be at least length() long
+    default void copyInto(int[] dest) {
+        if (dest.length < length()) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + length());
+        }
+        int[] index = {0};
+        forEachInt(value -> dest[index[0]++] = value);
+    }
 
+    // Returns a new array holding the values in order
+    default int[] toArray() {
+        int[] result = new int[length()];
+        copyInto(result);
+        return result;
+    }
+
+    // Sized spliterator over the values. The default copies them into an array,
+    // which splits by index; array-backed lists split their own array instead
+    // and linked lists split off batches as they walk the nodes.
+    default Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED);
+    }
+
+    default IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    default IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+}
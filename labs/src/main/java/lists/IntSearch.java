@@ -0,0 +1,57 @@
+package lists;
+
+// Linear search kernels shared by the array-backed int lists.
+// When the jdk.incubator.vector module is available (run with --add-modules jdk.incubator.vector)
+// the searches compare a whole vector of lanes at a time; otherwise they fall back to
+// a plain scalar loop. The choice is made once, when this class is loaded.
+// Set -Dlists.vector=false to force the scalar path.
+final class IntSearch {
+    static final boolean VECTORIZED = vectorApiAvailable();
+
+    private IntSearch() {
+    }
+
+    static boolean contains(int[] values, int len, int value) {
+        return indexOf(values, len, value) >= 0;
+    }
+
+    static int indexOf(int[] values, int len, int value) {
+        return VECTORIZED
+                ? IntVectorSearch.indexOf(values, len, value)
+                : scalarIndexOf(values, len, value);
+    }
+
+    static int count(int[] values, int len, int value) {
+        return VECTORIZED
+                ? IntVectorSearch.count(values, len, value)
+                : scalarCount(values, len, value);
+    }
+
+    static int scalarIndexOf(int[] values, int len, int value) {
+        for (int i = 0; i < len; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarCount(int[] values, int len, int value) {
+        int count = 0;
+        for (int i = 0; i < len; i++) {
+            if (values[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // IntVectorSearch must not be touched unless the module is present,
+    // otherwise loading it fails with NoClassDefFoundError
+    private static boolean vectorApiAvailable() {
+        if (!Boolean.parseBoolean(System.getProperty("lists.vector", "true"))) {
+            return false;
+        }
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+}
@@ -0,0 +1,49 @@
+package lists;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API versions of the IntSearch kernels.
+// SPECIES_PREFERRED is 8 ints on AVX2 and 16 ints on AVX-512 hardware.
+// Only use this class through IntSearch, which checks the module is available.
+final class IntVectorSearch {
+    static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private IntVectorSearch() {
+    }
+
+    static int indexOf(int[] values, int len, int value) {
+        int i = 0;
+        int bound = SPECIES.loopBound(len);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(SPECIES, values, i).compare(VectorOperators.EQ, value);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        // scalar tail for the last few values that do not fill a whole vector
+        for (; i < len; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int count(int[] values, int len, int value) {
+        int count = 0;
+        int i = 0;
+        int bound = SPECIES.loopBound(len);
+        for (; i < bound; i += SPECIES.length()) {
+            count += IntVector.fromArray(SPECIES, values, i).compare(VectorOperators.EQ, value).trueCount();
+        }
+        for (; i < len; i++) {
+            if (values[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,36 @@
+package lists;
+
+// Something that can estimate how much memory it holds.
+// The estimate counts the object itself and everything it owns (arrays, nodes, chunks)
+// including spare capacity. The elements of generic lists are not counted, because the same
+// objects may also be referenced from elsewhere; MemoryHarness measures what is really allocated.
+// The sizes assume a 64-bit HotSpot JVM with compressed oops and compressed class pointers.
+public interface MemoryFootprint {
+    int OBJECT_HEADER = 12;
+    int ARRAY_HEADER = 16;
+    int REFERENCE = 4;
+
+    long estimatedBytes();
+
+    // Objects are padded to a multiple of 8 bytes
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    // An object with the given total size of instance fields
+    static long object(long fieldBytes) {
+        return align(OBJECT_HEADER + fieldBytes);
+    }
+
+    static long array(long length, int elementBytes) {
+        return align(ARRAY_HEADER + length * elementBytes);
+    }
+
+    static long intArray(long length) {
+        return array(length, Integer.BYTES);
+    }
+
+    static long referenceArray(long length) {
+        return array(length, REFERENCE);
+    }
+}
@@ -0,0 +1,91 @@
+package lists;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// Measures what the lists really cost, to size heaps and to check the estimatedBytes() figures.
+// Allocation comes from the JVM's per-thread allocation counter, which counts every byte the
+// current thread allocates, including arrays thrown away by resizes and boxed Integers.
+// Retained size is the used heap after a full collection with the list still reachable,
+// minus the used heap before it was built, so it is only meaningful for large lists.
+public class MemoryHarness {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    // Total bytes allocated by the current thread so far
+    public static long allocatedBytes() {
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    // Bytes allocated by the current thread while running the action
+    public static long allocatedBy(Runnable action) {
+        long before = allocatedBytes();
+        action.run();
+        return allocatedBytes() - before;
+    }
+
+    // Heap still in use by whatever build returns, once everything else it allocated has been collected
+    public static long retainedBytes(Supplier<?> build) {
+        long before = usedHeapAfterGc();
+        Object result = build.get();
+        long after = usedHeapAfterGc();
+        Reference.reachabilityFence(result); // keep it alive until after the second measurement
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // a single System.gc() does not always clear everything, so take the smallest of a few
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    private static void report(String name, Supplier<IntList> maker, int n) {
+        IntList[] list = new IntList[1];
+        long allocated = allocatedBy(() -> {
+            list[0] = maker.get();
+            for (int i = 0; i < n; i++) {
+                list[0].append(i);
+            }
+        });
+        long retained = retainedBytes(() -> {
+            IntList filled = maker.get();
+            for (int i = 0; i < n; i++) {
+                filled.append(i);
+            }
+            return filled;
+        });
+        System.out.printf(Locale.ROOT, "%-24s %12d %12d %10.2f %10.2f%n", name, list[0].estimatedBytes(), retained,
+                (double) list[0].estimatedBytes() / n, (double) allocated / n);
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        System.out.printf(Locale.ROOT, "%-24s %12s %12s %10s %10s%n", "List (" + n + " values)", "Estimated", "Retained",
+                "Bytes/elem", "Alloc/app");
+        report("IntArrayList", IntArrayList::new, Math.min(n, 20_000)); // quadratic append
+        report("EfficientIntArrayList", EfficientIntArrayList::new, n);
+        report("IntLinkedList", IntLinkedList::new, n);
+        report("EfficientIntLinkedList", EfficientIntLinkedList::new, n);
+        report("UnrolledIntLinkedList", UnrolledIntLinkedList::new, n);
+        report("SegmentedIntArrayList", SegmentedIntArrayList::new, n);
+        report("IntHashList", IntHashList::new, n);
+        report("CompressedIntList", CompressedIntList::new, n);
+        report("RoaringIntList", RoaringIntList::new, n);
+        report("GenericArrayList", () -> new GenIntListWrapper(new GenericArrayList<>()), n);
+        report("GenericLinkedList", () -> new GenIntListWrapper(new GenericLinkedList<>()), n);
+        // rebuilds the whole chain on every append, so keep it short
+        report("GenericLinkedListRecord", () -> new GenIntListWrapper(new GenericLinkedListRecord<>()), Math.min(n, 2_000));
+        report("PersistentGenericList", () -> new GenIntListWrapper(new PersistentGenericList<>()), n);
+    }
+}
@@ -1,6 +1,11 @@
 package lists;
 
-import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public class OddRange implements Iterable<Integer> {
     private final int start;
@@ -11,12 +16,51 @@ public class OddRange implements Iterable<Integer> {
         this.end = end;
     }
 
+    // Use nextInt() (or forEachInt(IntConsumer)) to avoid boxing each value
     @Override
-    public Iterator<Integer> iterator() {
+    public PrimitiveIterator.OfInt iterator() {
         return new OddRangeIterator(start, end);
     }
 
-    private static class OddRangeIterator implements Iterator<Integer> {
+    // Visits every value without boxing
+    public void forEachInt(IntConsumer action) {
+        for (long i = firstOdd(); i < end; i += 2) {
+            action.accept((int) i);
+        }
+    }
+
+    // Number of odd values in the range, worked out from the bounds
+    public long count() {
+        long first = firstOdd();
+        return first < end ? (end - first + 1) / 2 : 0;
+    }
+
+    // Sum of the odd values in the range: n terms of an arithmetic series with step 2
+    public long sum() {
+        long n = count();
+        return n * (firstOdd() + n - 1);
+    }
+
+    // Splits by arithmetic on the bounds, so parallel streams divide the range evenly
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new RangeSpliterator(firstOdd(), end, 2);
+    }
+
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    // The same first value as OddRangeIterator uses
+    private int firstOdd() {
+        return (start % 2 == 0) ? start + 1 : start;
+    }
+
+    private static class OddRangeIterator implements PrimitiveIterator.OfInt {
         private int current;
         private final int end;
 
@@ -31,7 +75,10 @@ public class OddRange implements Iterable<Integer> {
         }
 
         @Override
-        public Integer next() {
+        public int nextInt() {
+            if (current >= end) {
+                throw new NoSuchElementException();
+            }
             int temp = current;
             current += 2;
             return temp;
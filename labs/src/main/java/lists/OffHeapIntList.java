@@ -0,0 +1,227 @@
+package lists;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// An IntList that stores its values outside the Java heap in direct buffers.
+// Values live in fixed-size chunks, so growing the list allocates a new chunk
+// and never copies the values already stored; only the small chunk directory is copied.
+// Call close() when the list is no longer needed so the native memory can be released.
+public class OffHeapIntList implements IntList, AutoCloseable {
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // ints per chunk (256KB of native memory)
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_DIRECTORY_SIZE = 4;
+    // rough heap size of each direct ByteBuffer and of the IntBuffer view over it
+    private static final int DIRECT_BUFFER_OBJECT = 64;
+
+    private IntBuffer[] chunks;
+    private int nChunks;
+    private int len;
+    private boolean closed;
+
+    public OffHeapIntList() {
+        chunks = new IntBuffer[INITIAL_DIRECTORY_SIZE];
+        nChunks = 0;
+        len = 0;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        checkOpen();
+        int remaining = len;
+        for (int c = 0; c < nChunks && remaining > 0; c++) {
+            IntBuffer chunk = chunks[c];
+            int n = Math.min(remaining, CHUNK_SIZE);
+            for (int i = 0; i < n; i++) {
+                if (chunk.get(i) == value) {
+                    return true;
+                }
+            }
+            remaining -= n;
+        }
+        return false;
+    }
+
+    @Override
+    public void append(int value) {
+        checkOpen();
+        int offset = len & CHUNK_MASK;
+        if (offset == 0 && (len >>> CHUNK_SHIFT) == nChunks) {
+            addChunk();
+        }
+        chunks[len >>> CHUNK_SHIFT].put(offset, value);
+        len++;
+    }
+
+    // Appends all the values, filling each chunk with a single bulk copy
+    public void append(int[] values) {
+        appendAll(values, 0, values.length);
+    }
+
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        checkOpen();
+        Objects.checkFromIndexSize(off, len, values.length);
+        int copied = 0;
+        while (copied < len) {
+            if ((this.len >>> CHUNK_SHIFT) == nChunks) {
+                addChunk();
+            }
+            int offset = this.len & CHUNK_MASK;
+            int n = Math.min(len - copied, CHUNK_SIZE - offset);
+            chunks[this.len >>> CHUNK_SHIFT].put(offset, values, off + copied, n);
+            copied += n;
+            this.len += n;
+        }
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        checkOpen();
+        int remaining = len;
+        for (int c = 0; c < nChunks && remaining > 0; c++) {
+            IntBuffer chunk = chunks[c];
+            int n = Math.min(remaining, CHUNK_SIZE);
+            for (int i = 0; i < n; i++) {
+                action.accept(chunk.get(i));
+            }
+            remaining -= n;
+        }
+    }
+
+    // Copies a chunk at a time with bulk gets
+    @Override
+    public void copyInto(int[] dest) {
+        checkOpen();
+        if (dest.length < len) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + len);
+        }
+        int copied = 0;
+        for (int c = 0; copied < len; c++) {
+            int n = Math.min(len - copied, CHUNK_SIZE);
+            chunks[c].get(0, dest, copied, n);
+            copied += n;
+        }
+    }
+
+    @Override
+    public int get(int index) {
+        checkOpen();
+        if (index < 0 || index >= len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        return chunks[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+    }
+
+    @Override
+    public int length() {
+        return len;
+    }
+
+    // Includes the native memory of the chunks, which is most of it, and the heap objects that point to it
+    @Override
+    public long estimatedBytes() {
+        if (closed) {
+            return MemoryFootprint.object(13);
+        }
+        long perChunk = (long) CHUNK_SIZE * Integer.BYTES + 2 * DIRECT_BUFFER_OBJECT;
+        return MemoryFootprint.object(13) + MemoryFootprint.referenceArray(chunks.length) + nChunks * perChunk;
+    }
+
+    // Returns a reader that walks the values in append order
+    public Reader reader() {
+        checkOpen();
+        return new Reader(this);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(reader(), len, Spliterator.ORDERED);
+    }
+
+    // Drops the references to the native chunks so the memory can be reclaimed.
+    // The list cannot be used after it has been closed.
+    @Override
+    public void close() {
+        for (int c = 0; c < nChunks; c++) {
+            chunks[c] = null;
+        }
+        chunks = null;
+        nChunks = 0;
+        len = 0;
+        closed = true;
+    }
+
+    private void addChunk() {
+        if (nChunks == chunks.length) {
+            // only the directory of references is copied, never the values
+            IntBuffer[] newChunks = new IntBuffer[chunks.length * 2];
+            System.arraycopy(chunks, 0, newChunks, 0, nChunks);
+            chunks = newChunks;
+        }
+        chunks[nChunks++] = ByteBuffer.allocateDirect(CHUNK_SIZE * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("OffHeapIntList has been closed");
+        }
+    }
+
+    // Sequential reader over the list; it sees the values present when it was created
+    public static class Reader implements PrimitiveIterator.OfInt {
+        private final OffHeapIntList list;
+        private final int end;
+        private int index;
+        private IntBuffer chunk;
+
+        private Reader(OffHeapIntList list) {
+            this.list = list;
+            this.end = list.len;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < end;
+        }
+
+        @Override
+        public int nextInt() {
+            if (index >= end) {
+                throw new NoSuchElementException();
+            }
+            list.checkOpen();
+            int offset = index & CHUNK_MASK;
+            if (offset == 0 || chunk == null) {
+                chunk = list.chunks[index >>> CHUNK_SHIFT];
+            }
+            index++;
+            return chunk.get(offset);
+        }
+    }
+
+    public static void main(String[] args) {
+        try (OffHeapIntList list = new OffHeapIntList()) {
+            list.append(1);
+            list.append(new int[]{2, 3});
+            System.out.println(list.contains(2)); // Expected output: true
+            System.out.println(list.contains(4)); // Expected output: false
+            System.out.println(list.length()); // Expected output: 3
+            OffHeapIntList.Reader reader = list.reader();
+            while (reader.hasNext()) {
+                System.out.println(reader.nextInt());
+            }
+        }
+    }
+}
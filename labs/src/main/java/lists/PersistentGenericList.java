@@ -0,0 +1,238 @@
+package lists;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+// An immutable trie node: the children array is never changed once the node has been built
+record PersistentNode(Object[] children) {
+}
+
+// A GenericList backed by a persistent vector (a 32-way trie plus a tail array, as used by Clojure and Scala).
+// Like GenericLinkedListRecord every version is immutable and built from records,
+// but append only copies the tail array (or one path of the trie every 32 appends),
+// so it is effectively O(1), uses no recursion proportional to the length,
+// and every older version shares almost all of its structure with the newer ones.
+public class PersistentGenericList<T> implements GenericList<T> {
+    private Version<T> current;
+
+    public PersistentGenericList() {
+        current = Version.empty();
+    }
+
+    // Continues from an earlier snapshot; the snapshot itself is not affected by later appends
+    public PersistentGenericList(Version<T> start) {
+        current = start;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        for (T item : this) {
+            if (Objects.equals(item, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void append(T value) {
+        current = current.appended(value);
+    }
+
+    @Override
+    public int length() {
+        return current.size();
+    }
+
+    // The current version only; older snapshots share most of their nodes with it.
+    // The elements themselves are not counted.
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(REFERENCE) + current.estimatedBytes();
+    }
+
+    public T get(int index) {
+        return current.get(index);
+    }
+
+    // Returns the current immutable version of the list
+    public Version<T> snapshot() {
+        return current;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PersistentListIterator<>(current);
+    }
+
+    // One immutable version of the list. It is opaque: the only constructor is private and is
+    // always handed arrays nobody else holds, and no accessor returns the trie or the tail,
+    // so a version cannot be changed or built inconsistent from outside.
+    public static final class Version<T> {
+        static final int BITS = 5;
+        static final int WIDTH = 1 << BITS;
+        static final int MASK = WIDTH - 1;
+
+        private final int size;
+        private final int shift;
+        private final PersistentNode root;
+        private final Object[] tail;
+
+        private Version(int size, int shift, PersistentNode root, Object[] tail) {
+            this.size = size;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+
+        private static final Version<?> EMPTY = new Version<>(0, BITS, new PersistentNode(new Object[WIDTH]), new Object[0]);
+
+        @SuppressWarnings("unchecked")
+        public static <T> Version<T> empty() {
+            return (Version<T>) EMPTY;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Returns a new version with the value added at the end
+        public Version<T> appended(T value) {
+            if (size - tailOffset() < WIDTH) {
+                // room in the tail: copy just the tail
+                Object[] newTail = new Object[tail.length + 1];
+                System.arraycopy(tail, 0, newTail, 0, tail.length);
+                newTail[tail.length] = value;
+                return new Version<>(size + 1, shift, root, newTail);
+            }
+            // the tail is full: push it into the trie and start a new tail
+            PersistentNode tailNode = new PersistentNode(tail);
+            PersistentNode newRoot;
+            int newShift = shift;
+            if ((size >>> BITS) > (1 << shift)) {
+                // the trie is full at this height, so add a level
+                Object[] children = new Object[WIDTH];
+                children[0] = root;
+                children[1] = newPath(shift, tailNode);
+                newRoot = new PersistentNode(children);
+                newShift += BITS;
+            } else {
+                newRoot = pushTail(shift, root, tailNode);
+            }
+            return new Version<>(size + 1, newShift, newRoot, new Object[]{value});
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) leafFor(index)[index & MASK];
+        }
+
+        // The array holding the given index: either the tail or a leaf of the trie
+        Object[] leafFor(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + size);
+            }
+            if (index >= tailOffset()) {
+                return tail;
+            }
+            PersistentNode node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (PersistentNode) node.children()[(index >>> level) & MASK];
+            }
+            return node.children();
+        }
+
+        // The version, its tail and every trie node reachable from the root
+        long estimatedBytes() {
+            return MemoryFootprint.object(2 * Integer.BYTES + 2 * MemoryFootprint.REFERENCE)
+                    + MemoryFootprint.referenceArray(tail.length)
+                    + nodeBytes(root, shift);
+        }
+
+        private static long nodeBytes(PersistentNode node, int level) {
+            long bytes = MemoryFootprint.object(MemoryFootprint.REFERENCE) + MemoryFootprint.referenceArray(WIDTH);
+            if (level > 0) {
+                for (Object child : node.children()) {
+                    if (child != null) {
+                        bytes += nodeBytes((PersistentNode) child, level - BITS);
+                    }
+                }
+            }
+            return bytes;
+        }
+
+        // Index of the first value stored in the tail
+        private int tailOffset() {
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+
+        // Copies the path from parent down to where the full tail belongs, sharing everything else
+        private PersistentNode pushTail(int level, PersistentNode parent, PersistentNode tailNode) {
+            int subIndex = ((size - 1) >>> level) & MASK;
+            Object[] children = parent.children().clone();
+            if (level == BITS) {
+                children[subIndex] = tailNode;
+            } else {
+                PersistentNode child = (PersistentNode) children[subIndex];
+                children[subIndex] = child != null
+                        ? pushTail(level - BITS, child, tailNode)
+                        : newPath(level - BITS, tailNode);
+            }
+            return new PersistentNode(children);
+        }
+
+        // Wraps the node in single-child parents until it reaches the given level
+        private static PersistentNode newPath(int level, PersistentNode node) {
+            PersistentNode path = node;
+            for (int l = level; l > 0; l -= BITS) {
+                Object[] children = new Object[WIDTH];
+                children[0] = path;
+                path = new PersistentNode(children);
+            }
+            return path;
+        }
+    }
+
+    // Walks one version a leaf array at a time
+    private static class PersistentListIterator<T> implements Iterator<T> {
+        private final Version<T> version;
+        private int index;
+        private Object[] leaf;
+
+        public PersistentListIterator(Version<T> version) {
+            this.version = version;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < version.size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (index >= version.size()) {
+                throw new NoSuchElementException();
+            }
+            if ((index & Version.MASK) == 0 || leaf == null) {
+                leaf = version.leafFor(index);
+            }
+            return (T) leaf[index++ & Version.MASK];
+        }
+    }
+
+    public static void main(String[] args) {
+        PersistentGenericList<Integer> list = new PersistentGenericList<>();
+        list.append(1);
+        list.append(2);
+        Version<Integer> before = list.snapshot();
+        list.append(3);
+        list.append(4);
+        for (Integer i : list) {
+            System.out.println(i);
+        }
+        System.out.println("Snapshot length: " + before.size()); // Expected: 2
+    }
+}
@@ -1,6 +1,11 @@
 package lists;
 
-import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public class Range implements Iterable<Integer> {
     private final int start;
@@ -11,12 +16,45 @@ public class Range implements Iterable<Integer> {
         this.end = end;
     }
 
+    // Use nextInt() (or forEachInt(IntConsumer)) to avoid boxing each value
     @Override
-    public Iterator<Integer> iterator() {
+    public PrimitiveIterator.OfInt iterator() {
         return new RangeIterator(start, end);
     }
 
-    private static class RangeIterator implements Iterator<Integer> {
+    // Visits every value without boxing
+    public void forEachInt(IntConsumer action) {
+        for (int i = start; i < end; i++) {
+            action.accept(i);
+        }
+    }
+
+    // Number of values in the range, worked out from the bounds
+    public long count() {
+        return Math.max(0L, (long) end - start);
+    }
+
+    // Sum of the values in the range, worked out from the bounds
+    public long sum() {
+        long n = count();
+        return n * ((long) start + end - 1) / 2;
+    }
+
+    // Splits by arithmetic on the bounds, so parallel streams divide the range evenly
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new RangeSpliterator(start, end, 1);
+    }
+
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    private static class RangeIterator implements PrimitiveIterator.OfInt {
         private int current;
         private final int end;
 
@@ -31,7 +69,10 @@ public class Range implements Iterable<Integer> {
         }
 
         @Override
-        public Integer next() {
+        public int nextInt() {
+            if (current >= end) {
+                throw new NoSuchElementException();
+            }
             return current++;
         }
 
@@ -0,0 +1,67 @@
+package lists;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+// Spliterator over the arithmetic sequence next, next + step, ... below end,
+// used by Range and OddRange. The size is known exactly, so it splits in half
+// by arithmetic without visiting any values.
+class RangeSpliterator implements Spliterator.OfInt {
+    private long next;
+    private final long end;
+    private final int step;
+
+    RangeSpliterator(long next, long end, int step) {
+        this.next = next;
+        this.end = end;
+        this.step = step;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (next >= end) {
+            return false;
+        }
+        action.accept((int) next);
+        next += step;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        long current = next;
+        next = end;
+        for (; current < end; current += step) {
+            action.accept((int) current);
+        }
+    }
+
+    @Override
+    public OfInt trySplit() {
+        long size = estimateSize();
+        if (size < 2) {
+            return null;
+        }
+        long mid = next + (size / 2) * step;
+        RangeSpliterator prefix = new RangeSpliterator(next, mid, step);
+        next = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return next >= end ? 0 : (end - next + step - 1) / step;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT | SORTED;
+    }
+
+    // values come out in their natural order
+    @Override
+    public Comparator<? super Integer> getComparator() {
+        return null;
+    }
+}
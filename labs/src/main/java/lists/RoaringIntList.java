@@ -0,0 +1,543 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// A roaring-bitmap style IntList for sets of ints, especially dense ones like 0..n.
+// Values are grouped by their upper 16 bits; each group keeps its lower 16 bits in whichever
+// container is smallest for it: a sorted array while it holds at most 4096 values, a 65536-bit
+// bitmap after that, or (after runOptimize()) a list of runs. A full range 0..n then costs about
+// one bit per value, and contains() is a binary search over the groups plus one container lookup.
+// This is a set: appending a value that is already present does nothing, and get() / forEachInt()
+// see the values in ascending order.
+public class RoaringIntList implements IntList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] keys; // upper 16 bits of each group, ascending
+    private RoaringContainer[] containers;
+    private int size; // number of groups
+    private int cardinality; // number of distinct values
+
+    public RoaringIntList() {
+        keys = new int[INITIAL_CAPACITY];
+        containers = new RoaringContainer[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean contains(int value) {
+        int i = indexOfKey(value >> 16);
+        return i >= 0 && containers[i].contains(value & 0xFFFF);
+    }
+
+    @Override
+    public void append(int value) {
+        int key = value >> 16;
+        int i = indexOfKey(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertGroup(i, key, new ArrayContainer());
+        }
+        RoaringContainer container = containers[i];
+        int before = container.cardinality();
+        containers[i] = container.add(value & 0xFFFF);
+        cardinality += containers[i].cardinality() - before;
+    }
+
+    @Override
+    public int length() {
+        return cardinality;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.object(16) + MemoryFootprint.intArray(keys.length) + MemoryFootprint.referenceArray(containers.length);
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].estimatedBytes();
+        }
+        return bytes;
+    }
+
+    // Returns the index-th smallest value
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= cardinality) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + cardinality);
+        }
+        for (int i = 0; ; i++) {
+            int n = containers[i].cardinality();
+            if (index < n) {
+                return keys[i] << 16 | containers[i].select(index);
+            }
+            index -= n;
+        }
+    }
+
+    // Visits the values in ascending order
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    // Returns a new list holding the values that are in this list or the other one
+    public RoaringIntList union(RoaringIntList other) {
+        RoaringIntList result = new RoaringIntList();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.addGroup(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || other.keys[j] < keys[i]) {
+                result.addGroup(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.addGroup(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Returns a new list holding the values that are in both this list and the other one
+    public RoaringIntList intersection(RoaringIntList other) {
+        RoaringIntList result = new RoaringIntList();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                RoaringContainer both = containers[i].and(other.containers[j]);
+                if (both.cardinality() > 0) {
+                    result.addGroup(keys[i], both);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Switches every group whose values form few long runs to a run container
+    public void runOptimize() {
+        for (int i = 0; i < size; i++) {
+            containers[i] = containers[i].runOptimize();
+        }
+    }
+
+    // Bytes used by the containers and the group index, divided by the number of values
+    public double bytesPerElement() {
+        if (cardinality == 0) {
+            return 0;
+        }
+        long bytes = (long) size * (Integer.BYTES + 8);
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return (double) bytes / cardinality;
+    }
+
+    // Values usually arrive in increasing order, so try the last group before searching
+    private int indexOfKey(int key) {
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertGroup(int i, int key, RoaringContainer container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = key;
+        containers[i] = container;
+        size++;
+    }
+
+    // Adds a group after all the existing ones
+    private void addGroup(int key, RoaringContainer container) {
+        insertGroup(size, key, container);
+        cardinality += container.cardinality();
+    }
+
+    public static void main(String[] args) {
+        RoaringIntList evens = new RoaringIntList();
+        RoaringIntList range = new RoaringIntList();
+        for (int i = 0; i < 1_000_000; i++) {
+            range.append(i);
+            if (i % 2 == 0) {
+                evens.append(i);
+            }
+        }
+        System.out.println(range.contains(999_999)); // Expected output: true
+        System.out.println(range.intersection(evens).length()); // Expected output: 500000
+        range.runOptimize();
+        System.out.printf("%.4f bytes per element%n", range.bytesPerElement());
+    }
+}
+
+// The lower 16 bits of the values in one group of a RoaringIntList.
+// Adding a value returns the container to keep using, which may be a new one of another kind.
+abstract class RoaringContainer implements MemoryFootprint {
+    static final int MAX_ARRAY_SIZE = 4096; // above this a bitmap is smaller than an array
+    static final int BITMAP_WORDS = 1 << 16 >>> 6;
+
+    abstract RoaringContainer add(int low);
+
+    abstract boolean contains(int low);
+
+    abstract int cardinality();
+
+    // The rank-th smallest value
+    abstract int select(int rank);
+
+    // Calls the action with high | low for every value, in ascending order
+    abstract void forEach(int high, IntConsumer action);
+
+    abstract long[] toBitmap();
+
+    abstract int sizeInBytes();
+
+    abstract RoaringContainer copy();
+
+    RoaringContainer or(RoaringContainer other) {
+        long[] words = toBitmap();
+        long[] otherWords = other.toBitmap();
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            words[i] |= otherWords[i];
+        }
+        return fromBitmap(words);
+    }
+
+    RoaringContainer and(RoaringContainer other) {
+        if (other instanceof ArrayContainer) {
+            return other.and(this);
+        }
+        long[] words = toBitmap();
+        long[] otherWords = other.toBitmap();
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            words[i] &= otherWords[i];
+        }
+        return fromBitmap(words);
+    }
+
+    // Returns a run container if that is smaller than this one, otherwise this
+    RoaringContainer runOptimize() {
+        RunContainer runs = RunContainer.fromBitmap(toBitmap());
+        return runs.sizeInBytes() < sizeInBytes() ? runs : this;
+    }
+
+    // Picks an array or a bitmap container, whichever is smaller for this many values
+    static RoaringContainer fromBitmap(long[] words) {
+        int card = 0;
+        for (long word : words) {
+            card += Long.bitCount(word);
+        }
+        if (card > MAX_ARRAY_SIZE) {
+            return new BitmapContainer(words, card);
+        }
+        char[] values = new char[card];
+        int n = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                values[n++] = (char) (i << 6 | Long.numberOfTrailingZeros(word));
+            }
+        }
+        return new ArrayContainer(values, card);
+    }
+}
+
+// Up to MAX_ARRAY_SIZE values as a sorted char[]
+class ArrayContainer extends RoaringContainer {
+    private char[] values;
+    private int card;
+
+    ArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] values, int card) {
+        this.values = values;
+        this.card = card;
+    }
+
+    @Override
+    RoaringContainer add(int low) {
+        // appends in increasing order skip the search
+        int i = card > 0 && values[card - 1] < low ? -card - 1 : Arrays.binarySearch(values, 0, card, (char) low);
+        if (i >= 0) {
+            return this;
+        }
+        if (card == MAX_ARRAY_SIZE) {
+            return new BitmapContainer(toBitmap(), card).add(low);
+        }
+        i = -i - 1;
+        if (card == values.length) {
+            values = Arrays.copyOf(values, Math.min(card * 2, MAX_ARRAY_SIZE));
+        }
+        System.arraycopy(values, i, values, i + 1, card - i);
+        values[i] = (char) low;
+        card++;
+        return this;
+    }
+
+    @Override
+    boolean contains(int low) {
+        return Arrays.binarySearch(values, 0, card, (char) low) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+        return card;
+    }
+
+    @Override
+    int select(int rank) {
+        return values[rank];
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < card; i++) {
+            action.accept(high | values[i]);
+        }
+    }
+
+    @Override
+    long[] toBitmap() {
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < card; i++) {
+            words[values[i] >>> 6] |= 1L << values[i];
+        }
+        return words;
+    }
+
+    @Override
+    int sizeInBytes() {
+        return card * Character.BYTES;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(REFERENCE + Integer.BYTES) + MemoryFootprint.array(values.length, Character.BYTES);
+    }
+
+    @Override
+    RoaringContainer copy() {
+        return new ArrayContainer(Arrays.copyOf(values, Math.max(card, 1)), card);
+    }
+
+    // Keeps the values that the other container also has
+    @Override
+    RoaringContainer and(RoaringContainer other) {
+        char[] result = new char[card];
+        int n = 0;
+        for (int i = 0; i < card; i++) {
+            if (other.contains(values[i])) {
+                result[n++] = values[i];
+            }
+        }
+        return new ArrayContainer(result, n);
+    }
+}
+
+// A 65536-bit bitmap, used once a group holds more than MAX_ARRAY_SIZE values
+class BitmapContainer extends RoaringContainer {
+    private final long[] words;
+    private int card;
+
+    BitmapContainer(long[] words, int card) {
+        this.words = words;
+        this.card = card;
+    }
+
+    @Override
+    RoaringContainer add(int low) {
+        long bit = 1L << low;
+        if ((words[low >>> 6] & bit) == 0) {
+            words[low >>> 6] |= bit;
+            card++;
+        }
+        return this;
+    }
+
+    @Override
+    boolean contains(int low) {
+        return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+        return card;
+    }
+
+    @Override
+    int select(int rank) {
+        for (int i = 0; ; i++) {
+            int n = Long.bitCount(words[i]);
+            if (rank < n) {
+                long word = words[i];
+                for (int k = 0; k < rank; k++) {
+                    word &= word - 1;
+                }
+                return i << 6 | Long.numberOfTrailingZeros(word);
+            }
+            rank -= n;
+        }
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                action.accept(high | i << 6 | Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    @Override
+    long[] toBitmap() {
+        return words.clone();
+    }
+
+    @Override
+    int sizeInBytes() {
+        return BITMAP_WORDS * Long.BYTES;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(REFERENCE + Integer.BYTES) + MemoryFootprint.array(BITMAP_WORDS, Long.BYTES);
+    }
+
+    @Override
+    RoaringContainer copy() {
+        return new BitmapContainer(words.clone(), card);
+    }
+}
+
+// Values stored as runs [start, start + length], created by runOptimize().
+// Adding a value that is not already covered converts it back to an array or bitmap.
+class RunContainer extends RoaringContainer {
+    private final char[] starts;
+    private final char[] lengths; // each run covers start .. start + length
+    private final int runs;
+    private final int card;
+
+    private RunContainer(char[] starts, char[] lengths, int runs) {
+        this.starts = starts;
+        this.lengths = lengths;
+        this.runs = runs;
+        int total = 0;
+        for (int i = 0; i < runs; i++) {
+            total += lengths[i] + 1;
+        }
+        this.card = total;
+    }
+
+    static RunContainer fromBitmap(long[] words) {
+        char[] starts = new char[8];
+        char[] lengths = new char[8];
+        int runs = 0;
+        int start = -1;
+        for (int v = 0; v <= 1 << 16; v++) {
+            boolean set = v < 1 << 16 && (words[v >>> 6] & (1L << v)) != 0;
+            if (set && start < 0) {
+                start = v;
+            } else if (!set && start >= 0) {
+                if (runs == starts.length) {
+                    starts = Arrays.copyOf(starts, runs * 2);
+                    lengths = Arrays.copyOf(lengths, runs * 2);
+                }
+                starts[runs] = (char) start;
+                lengths[runs] = (char) (v - 1 - start);
+                runs++;
+                start = -1;
+            }
+        }
+        return new RunContainer(Arrays.copyOf(starts, runs), Arrays.copyOf(lengths, runs), runs);
+    }
+
+    @Override
+    RoaringContainer add(int low) {
+        if (contains(low)) {
+            return this;
+        }
+        return RoaringContainer.fromBitmap(toBitmap()).add(low);
+    }
+
+    @Override
+    boolean contains(int low) {
+        int i = Arrays.binarySearch(starts, 0, runs, (char) low);
+        if (i >= 0) {
+            return true;
+        }
+        i = -i - 2; // the last run starting below low
+        return i >= 0 && low <= starts[i] + lengths[i];
+    }
+
+    @Override
+    int cardinality() {
+        return card;
+    }
+
+    @Override
+    int select(int rank) {
+        for (int i = 0; ; i++) {
+            if (rank <= lengths[i]) {
+                return starts[i] + rank;
+            }
+            rank -= lengths[i] + 1;
+        }
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < runs; i++) {
+            int end = starts[i] + lengths[i];
+            for (int v = starts[i]; v <= end; v++) {
+                action.accept(high | v);
+            }
+        }
+    }
+
+    @Override
+    long[] toBitmap() {
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < runs; i++) {
+            int end = starts[i] + lengths[i];
+            for (int v = starts[i]; v <= end; v++) {
+                words[v >>> 6] |= 1L << v;
+            }
+        }
+        return words;
+    }
+
+    @Override
+    int sizeInBytes() {
+        return runs * 2 * Character.BYTES;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(2 * REFERENCE + 2 * Integer.BYTES) + 2 * MemoryFootprint.array(runs, Character.BYTES);
+    }
+
+    @Override
+    RoaringContainer copy() {
+        return this; // immutable
+    }
+
+    @Override
+    RoaringContainer runOptimize() {
+        return this;
+    }
+}
@@ -0,0 +1,205 @@
+package lists;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// An array list that stores its values in fixed-size int[] chunks instead of one big array.
+// EfficientIntArrayList copies every value when it grows; this list just allocates another
+// chunk, so each append does a bounded amount of work no matter how large the list is.
+// The chunks are found through a two-level directory whose top level has a fixed size,
+// so the directory never has to be copied either.
+public class SegmentedIntArrayList implements IntList {
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // ints per chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int BLOCK_SHIFT = 10;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT; // chunks per directory block
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    // enough directory blocks to address Integer.MAX_VALUE values
+    private static final int MAX_BLOCKS = 1 << (31 - CHUNK_SHIFT - BLOCK_SHIFT);
+
+    private final int[][][] directory;
+    private int[] tail; // the chunk currently being filled
+    private int len;
+
+    public SegmentedIntArrayList() {
+        directory = new int[MAX_BLOCKS][][];
+        len = 0;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        int remaining = len;
+        for (int b = 0; remaining > 0; b++) {
+            int[][] block = directory[b];
+            for (int c = 0; c < BLOCK_SIZE && remaining > 0; c++) {
+                int[] chunk = block[c];
+                int n = Math.min(remaining, CHUNK_SIZE);
+                for (int i = 0; i < n; i++) {
+                    if (chunk[i] == value) {
+                        return true;
+                    }
+                }
+                remaining -= n;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void append(int value) {
+        // checked before the offset: the last chunk is only partly addressable, so the list
+        // fills up part way through a chunk, never at a chunk boundary
+        if (len == Integer.MAX_VALUE) {
+            throw new IllegalStateException("SegmentedIntArrayList is full");
+        }
+        int offset = len & CHUNK_MASK;
+        if (offset == 0) {
+            addChunk();
+        }
+        tail[offset] = value;
+        len++;
+    }
+
+    // Fills the tail chunk with one arraycopy per chunk instead of one capacity check per value
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        if (len > Integer.MAX_VALUE - this.len) {
+            throw new IllegalStateException("SegmentedIntArrayList is full");
+        }
+        int copied = 0;
+        while (copied < len) {
+            int offset = this.len & CHUNK_MASK;
+            if (offset == 0) {
+                addChunk();
+            }
+            int n = Math.min(len - copied, CHUNK_SIZE - offset);
+            System.arraycopy(values, off + copied, tail, offset, n);
+            copied += n;
+            this.len += n;
+        }
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        int remaining = len;
+        for (int b = 0; remaining > 0; b++) {
+            int[][] block = directory[b];
+            for (int c = 0; c < BLOCK_SIZE && remaining > 0; c++) {
+                int[] chunk = block[c];
+                int n = Math.min(remaining, CHUNK_SIZE);
+                for (int i = 0; i < n; i++) {
+                    action.accept(chunk[i]);
+                }
+                remaining -= n;
+            }
+        }
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        if (dest.length < len) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + len);
+        }
+        int copied = 0;
+        for (int chunkIndex = 0; copied < len; chunkIndex++) {
+            int n = Math.min(len - copied, CHUNK_SIZE);
+            System.arraycopy(directory[chunkIndex >>> BLOCK_SHIFT][chunkIndex & BLOCK_MASK], 0, dest, copied, n);
+            copied += n;
+        }
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        return directory[chunkIndex >>> BLOCK_SHIFT][chunkIndex & BLOCK_MASK][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int length() {
+        return len;
+    }
+
+    // The top level of the directory is allocated up front; blocks and chunks as they fill
+    @Override
+    public long estimatedBytes() {
+        long chunks = (len + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+        long blocks = (chunks + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        return MemoryFootprint.object(12)
+                + MemoryFootprint.referenceArray(MAX_BLOCKS)
+                + blocks * MemoryFootprint.referenceArray(BLOCK_SIZE)
+                + chunks * MemoryFootprint.intArray(CHUNK_SIZE);
+    }
+
+    // Iterates the values in append order, a chunk at a time
+    public PrimitiveIterator.OfInt iterator() {
+        return new SegmentedIterator(this);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), len, Spliterator.ORDERED);
+    }
+
+    private void addChunk() {
+        int chunkIndex = len >>> CHUNK_SHIFT;
+        int[][] block = directory[chunkIndex >>> BLOCK_SHIFT];
+        if (block == null) {
+            block = new int[BLOCK_SIZE][];
+            directory[chunkIndex >>> BLOCK_SHIFT] = block;
+        }
+        tail = new int[CHUNK_SIZE];
+        block[chunkIndex & BLOCK_MASK] = tail;
+    }
+
+    private static class SegmentedIterator implements PrimitiveIterator.OfInt {
+        private final SegmentedIntArrayList list;
+        private final int end;
+        private int index;
+        private int[] chunk;
+
+        public SegmentedIterator(SegmentedIntArrayList list) {
+            this.list = list;
+            this.end = list.len;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < end;
+        }
+
+        @Override
+        public int nextInt() {
+            if (index >= end) {
+                throw new NoSuchElementException();
+            }
+            int offset = index & CHUNK_MASK;
+            if (offset == 0 || chunk == null) {
+                int chunkIndex = index >>> CHUNK_SHIFT;
+                chunk = list.directory[chunkIndex >>> BLOCK_SHIFT][chunkIndex & BLOCK_MASK];
+            }
+            index++;
+            return chunk[offset];
+        }
+    }
+
+    public static void main(String[] args) {
+        SegmentedIntArrayList list = new SegmentedIntArrayList();
+        list.append(1);
+        list.append(2);
+        list.append(3);
+        System.out.println(list.contains(2)); // Expected output: true
+        System.out.println(list.contains(4)); // Expected output: false
+        System.out.println(list.length()); // Expected output: 3
+        System.out.println(list.get(2)); // Expected output: 3
+    }
+}
@@ -0,0 +1,189 @@
+package lists;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// A thread-safe GenericList split into independently locked stripes.
+// Each value goes to the stripe chosen by its hash, so threads appending different
+// values rarely wait for each other, and contains() only has to look in one stripe,
+// where a hash set of the stripe's distinct values answers it in O(1).
+// Values come back grouped by stripe: within a stripe they are in append order,
+// but there is no overall append order across stripes.
+public class ShardedGenericList<T> implements GenericList<T> {
+    private static final int DEFAULT_STRIPES = 16;
+
+    private final Stripe<T>[] stripes;
+    private final int mask;
+    private final AtomicInteger len = new AtomicInteger();
+
+    public ShardedGenericList() {
+        this(DEFAULT_STRIPES);
+    }
+
+    // The number of stripes is rounded up to a power of two
+    @SuppressWarnings("unchecked")
+    public ShardedGenericList(int nStripes) {
+        if (nStripes < 1) {
+            throw new IllegalArgumentException("Need at least one stripe: " + nStripes);
+        }
+        int size = Integer.highestOneBit(nStripes - 1) << 1;
+        stripes = (Stripe<T>[]) new Stripe<?>[Math.max(1, size)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        mask = stripes.length - 1;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        Stripe<T> stripe = stripeFor(value);
+        stripe.lock.lock();
+        try {
+            return stripe.members.contains(value);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void append(T value) {
+        Stripe<T> stripe = stripeFor(value);
+        stripe.lock.lock();
+        try {
+            stripe.values.append(value);
+            stripe.members.add(value);
+            // counted while the value is only visible to this lock's holders,
+            // so a snapshot never holds more values than length()
+            len.incrementAndGet();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public int length() {
+        return len.get();
+    }
+
+    // The elements themselves are not counted
+    @Override
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.object(12)
+                + MemoryFootprint.object(Integer.BYTES)
+                + MemoryFootprint.referenceArray(stripes.length);
+        for (Stripe<T> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                bytes += stripe.estimatedBytes();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return bytes;
+    }
+
+    // Iterates over a snapshot taken with every stripe locked,
+    // so it sees a consistent state and is unaffected by later appends
+    @Override
+    public Iterator<T> iterator() {
+        return new SnapshotIterator<>(snapshot());
+    }
+
+    // Over the same snapshot, so its size is exact even while other threads append
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED);
+    }
+
+    private Object[] snapshot() {
+        // always lock in stripe order so two snapshots cannot deadlock
+        for (Stripe<T> stripe : stripes) {
+            stripe.lock.lock();
+        }
+        try {
+            int total = 0;
+            for (Stripe<T> stripe : stripes) {
+                total += stripe.values.length();
+            }
+            Object[] copy = new Object[total];
+            int i = 0;
+            for (Stripe<T> stripe : stripes) {
+                for (T value : stripe.values) {
+                    copy[i++] = value;
+                }
+            }
+            return copy;
+        } finally {
+            for (int s = stripes.length - 1; s >= 0; s--) {
+                stripes[s].lock.unlock();
+            }
+        }
+    }
+
+    private Stripe<T> stripeFor(T value) {
+        int h = Objects.hashCode(value);
+        h ^= h >>> 16; // spread the high bits into the stripe index
+        return stripes[h & mask];
+    }
+
+    private static class Stripe<T> {
+        final ReentrantLock lock = new ReentrantLock();
+        final GenericArrayList<T> values = new GenericArrayList<>();
+        final Set<T> members = new HashSet<>(); // the distinct values, for contains()
+
+        // Lock and its sync object, the values, and the set: its backing map with a table sized
+        // for the default load factor plus one entry node per distinct value
+        long estimatedBytes() {
+            int table = members.isEmpty() ? 0 : Integer.highestOneBit(members.size() * 4 / 3) << 1;
+            return MemoryFootprint.object(3 * REFERENCE)
+                    + MemoryFootprint.object(REFERENCE) + MemoryFootprint.object(16)
+                    + values.estimatedBytes()
+                    + MemoryFootprint.object(REFERENCE) + MemoryFootprint.object(32) + MemoryFootprint.referenceArray(table)
+                    + members.size() * MemoryFootprint.object(Integer.BYTES + 3 * REFERENCE);
+        }
+    }
+
+    private static class SnapshotIterator<T> implements Iterator<T> {
+        private final Object[] values;
+        private int index;
+
+        public SnapshotIterator(Object[] values) {
+            this.values = values;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (index >= values.length) {
+                throw new NoSuchElementException();
+            }
+            return (T) values[index++];
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ShardedGenericList<String> list = new ShardedGenericList<>();
+        Thread a = new Thread(() -> list.append("apple"));
+        Thread b = new Thread(() -> list.append("banana"));
+        a.start();
+        b.start();
+        a.join();
+        b.join();
+        System.out.println("Contains apple? " + list.contains("apple")); // Expected: true
+        System.out.println("Contains cherry? " + list.contains("cherry")); // Expected: false
+        System.out.println("Length: " + list.length()); // Expected: 2
+    }
+}
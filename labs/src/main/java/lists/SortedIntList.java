@@ -0,0 +1,170 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// An IntList for read-mostly data that keeps its values sorted, so contains() is a binary search
+// instead of a linear scan. Unlike the other lists, get() and forEachInt() see the values in
+// ascending order rather than append order; duplicates are kept.
+// Appends go into an unsorted pending buffer. The buffer is sorted and merged into the sorted
+// array in one pass when it grows too big or when a read needs it, so a batch of appends costs
+// one merge instead of one insertion shift per value.
+public class SortedIntList implements IntList {
+    private static final int INITIAL_CAPACITY = 10;
+    private static final int MIN_PENDING = 1024;
+    // contains() just scans a pending buffer this small instead of merging it
+    static final int SCAN_PENDING_LIMIT = 32;
+
+    private int[] sorted;
+    private int sortedLen;
+    private int[] pending; // appended but not yet merged, in append order
+    private int pendingLen;
+
+    public SortedIntList() {
+        sorted = new int[INITIAL_CAPACITY];
+        pending = new int[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean contains(int value) {
+        if (pendingLen > SCAN_PENDING_LIMIT) {
+            merge();
+        }
+        for (int i = 0; i < pendingLen; i++) {
+            if (pending[i] == value) {
+                return true;
+            }
+        }
+        return sortedLen > 0 && sorted[lastAtMost(value)] == value;
+    }
+
+    @Override
+    public void append(int value) {
+        if (pendingLen == pending.length) {
+            if (pendingLen >= pendingLimit()) {
+                merge();
+            } else {
+                pending = Arrays.copyOf(pending, Math.min(pendingLen * 2, pendingLimit()));
+            }
+        }
+        pending[pendingLen++] = value;
+    }
+
+    // Adds the whole batch to the pending buffer and merges it at most once
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        if (pendingLen + len > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pendingLen + len, pending.length * 2));
+        }
+        System.arraycopy(values, off, pending, pendingLen, len);
+        pendingLen += len;
+        if (pendingLen >= pendingLimit()) {
+            merge();
+        }
+    }
+
+    @Override
+    public int length() {
+        return sortedLen + pendingLen;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return MemoryFootprint.object(16) + MemoryFootprint.intArray(sorted.length) + MemoryFootprint.intArray(pending.length);
+    }
+
+    // Returns the index-th smallest value
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length());
+        }
+        merge();
+        return sorted[index];
+    }
+
+    // Visits the values in ascending order
+    @Override
+    public void forEachInt(IntConsumer action) {
+        merge();
+        for (int i = 0; i < sortedLen; i++) {
+            action.accept(sorted[i]);
+        }
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        if (dest.length < length()) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + length());
+        }
+        merge();
+        System.arraycopy(sorted, 0, dest, 0, sortedLen);
+    }
+
+    @Override
+    public int[] toArray() {
+        merge();
+        return Arrays.copyOf(sorted, sortedLen);
+    }
+
+    // Over a copy: a later merge() rewrites the sorted array in place, which would change
+    // the values under a stream that is still running
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.SORTED | Spliterator.IMMUTABLE);
+    }
+
+    // Index of the last value <= the given one, or 0 if every value is bigger.
+    // The loop always runs log2(n) times and the only data-dependent choice is which base
+    // to keep, which the JIT can turn into a conditional move instead of a mispredicted branch.
+    private int lastAtMost(int value) {
+        int base = 0;
+        int n = sortedLen;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = sorted[base + half] <= value ? base + half : base;
+            n -= half;
+        }
+        return base;
+    }
+
+    // Let the buffer grow with the list so each value is merged a bounded number of times
+    private int pendingLimit() {
+        return Math.max(MIN_PENDING, sortedLen >>> 2);
+    }
+
+    // Sorts the pending values and merges them into the sorted array from the back,
+    // so the merge needs no scratch array
+    private void merge() {
+        if (pendingLen == 0) {
+            return;
+        }
+        Arrays.sort(pending, 0, pendingLen);
+        int total = sortedLen + pendingLen;
+        if (total > sorted.length) {
+            sorted = Arrays.copyOf(sorted, Math.max(total, sorted.length + (sorted.length >> 1)));
+        }
+        int i = sortedLen - 1;
+        int j = pendingLen - 1;
+        for (int k = total - 1; j >= 0; k--) {
+            sorted[k] = i >= 0 && sorted[i] > pending[j] ? sorted[i--] : pending[j--];
+        }
+        sortedLen = total;
+        pendingLen = 0;
+    }
+
+    public static void main(String[] args) {
+        SortedIntList list = new SortedIntList();
+        list.append(5);
+        list.append(1);
+        list.append(3);
+        System.out.println(list.contains(3)); // Expected output: true
+        System.out.println(list.contains(4)); // Expected output: false
+        System.out.println(list.get(0)); // Expected output: 1
+        System.out.println(list.length()); // Expected output: 3
+    }
+}
@@ -0,0 +1,231 @@
+package lists;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// An unrolled linked list: each node holds a small block of ints instead of a single value.
+// Appends are still O(1) at the tail and inserts only shift values within one node,
+// but there is one node header per block rather than per value,
+// and contains() scans contiguous arrays instead of chasing a pointer per element.
+public class UnrolledIntLinkedList implements IntList {
+    static final int NODE_CAPACITY = 64;
+
+    private UnrolledIntNode head;
+    private UnrolledIntNode tail;
+    private int len;
+
+    public UnrolledIntLinkedList() {
+        head = null;
+        tail = null;
+        len = 0;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        for (UnrolledIntNode current = head; current != null; current = current.next) {
+            int[] values = current.values;
+            for (int i = 0; i < current.count; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void append(int value) {
+        if (tail == null || tail.count == NODE_CAPACITY) {
+            addNode();
+        }
+        tail.values[tail.count++] = value;
+        len++;
+    }
+
+    // Fills the tail node a block at a time
+    @Override
+    public void appendAll(int[] values, int off, int len) {
+        Objects.checkFromIndexSize(off, len, values.length);
+        int copied = 0;
+        while (copied < len) {
+            if (tail == null || tail.count == NODE_CAPACITY) {
+                addNode();
+            }
+            int n = Math.min(len - copied, NODE_CAPACITY - tail.count);
+            System.arraycopy(values, off + copied, tail.values, tail.count, n);
+            tail.count += n;
+            copied += n;
+        }
+        this.len += len;
+    }
+
+    // Inserts the value so that it ends up at the given index.
+    // Only the values in one node are shifted; a full node is split in two first.
+    public void insert(int index, int value) {
+        if (index < 0 || index > len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        if (index == len) {
+            append(value);
+            return;
+        }
+        UnrolledIntNode node = head;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+        if (node.count == NODE_CAPACITY) {
+            UnrolledIntNode second = split(node);
+            if (offset >= node.count) {
+                offset -= node.count;
+                node = second;
+            }
+        }
+        System.arraycopy(node.values, offset, node.values, offset + 1, node.count - offset);
+        node.values[offset] = value;
+        node.count++;
+        len++;
+    }
+
+    @Override
+    public int length() {
+        return len;
+    }
+
+    // One node header per NODE_CAPACITY values, plus the unused space in partly filled nodes
+    @Override
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.object(12);
+        for (UnrolledIntNode current = head; current != null; current = current.next) {
+            bytes += MemoryFootprint.object(12) + MemoryFootprint.intArray(NODE_CAPACITY);
+        }
+        return bytes;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= len) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + len);
+        }
+        UnrolledIntNode current = head;
+        while (index >= current.count) {
+            index -= current.count;
+            current = current.next;
+        }
+        return current.values[index];
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (UnrolledIntNode current = head; current != null; current = current.next) {
+            for (int i = 0; i < current.count; i++) {
+                action.accept(current.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void copyInto(int[] dest) {
+        if (dest.length < len) {
+            throw new IndexOutOfBoundsException("Destination length: " + dest.length + ", Length: " + len);
+        }
+        int copied = 0;
+        for (UnrolledIntNode current = head; current != null; current = current.next) {
+            System.arraycopy(current.values, 0, dest, copied, current.count);
+            copied += current.count;
+        }
+    }
+
+    // Walks the nodes, splitting off batches of values for parallel streams.
+    // It stops after the values present when it was created, so the SIZED count it reports
+    // stays true even if more are added while it is in use.
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(new UnrolledIterator(head, len), len, Spliterator.ORDERED);
+    }
+
+    private void addNode() {
+        UnrolledIntNode newNode = new UnrolledIntNode();
+        if (head == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+    }
+
+    // Moves the upper half of a full node into a new node linked straight after it
+    private UnrolledIntNode split(UnrolledIntNode node) {
+        UnrolledIntNode second = new UnrolledIntNode();
+        int half = node.count / 2;
+        System.arraycopy(node.values, half, second.values, 0, node.count - half);
+        second.count = node.count - half;
+        node.count = half;
+        second.next = node.next;
+        node.next = second;
+        if (tail == node) {
+            tail = second;
+        }
+        return second;
+    }
+
+    private static class UnrolledIterator implements PrimitiveIterator.OfInt {
+        private UnrolledIntNode current;
+        private int index;
+        private int remaining;
+
+        public UnrolledIterator(UnrolledIntNode head, int length) {
+            current = head;
+            index = 0;
+            remaining = length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && current != null && index < current.count;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int value = current.values[index++];
+            remaining--;
+            if (index == current.count) {
+                current = current.next;
+                index = 0;
+            }
+            return value;
+        }
+    }
+
+    public static void main(String[] args) {
+        UnrolledIntLinkedList list = new UnrolledIntLinkedList();
+        list.append(1);
+        list.append(3);
+        list.insert(1, 2);
+        System.out.println(list.contains(2)); // Expected output: true
+        System.out.println(list.contains(4)); // Expected output: false
+        System.out.println(list.length()); // Expected output: 3
+        System.out.println(list.get(1)); // Expected output: 2
+    }
+}
+
+// A node holding up to NODE_CAPACITY values of the unrolled list
+class UnrolledIntNode {
+    final int[] values;
+    int count;
+    UnrolledIntNode next;
+
+    public UnrolledIntNode() {
+        this.values = new int[UnrolledIntLinkedList.NODE_CAPACITY];
+        this.count = 0;
+        this.next = null;
+    }
+}
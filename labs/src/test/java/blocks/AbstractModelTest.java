@@ -98,6 +98,28 @@ public abstract class AbstractModelTest {
         assertTrue(model.isGameOver(palettePieces), "Game should be over if no piece can be placed - occupied: " + model.getOccupiedCells());
     }
 
+    @Test
+    void testLegalPlacementsMatchCanPlace() {
+        Shape lShape = new Shape(List.of(
+                new Cell(0, 0), new Cell(1, 0), new Cell(0, 1)
+        ));
+        model.place(new Piece(lShape, new Cell(4, 4)));
+        model.place(new Piece(lShape, new Cell(7, 7)));
+
+        List<Piece> legal = model.legalPlacements(lShape);
+        int expected = 0;
+        for (int x = 0; x < ModelInterface.width; x++) {
+            for (int y = 0; y < ModelInterface.height; y++) {
+                Piece piece = new Piece(lShape, new Cell(x, y));
+                if (model.canPlace(piece)) {
+                    expected++;
+                    assertTrue(legal.contains(piece), "Missing legal placement " + piece);
+                }
+            }
+        }
+        assertEquals(expected, legal.size());
+    }
+
 //    interesting
 //    @Test
 //    void brokenTestIsGameOver() {
@@ -0,0 +1,113 @@
+package blocks;
+
+import blocks.BlockShapes.Cell;
+import blocks.BlockShapes.Piece;
+import blocks.BlockShapes.Shape;
+import blocks.BlocksSearch.Plan;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlocksSearchTest {
+    private static final Shape SINGLE = new Shape(List.of(new Cell(0, 0)));
+    private static final Shape LINE = new Shape(List.of(new Cell(0, 0), new Cell(1, 0), new Cell(2, 0)));
+    private static final Shape CORNER = new Shape(List.of(new Cell(0, 0), new Cell(1, 0), new Cell(0, 1)));
+
+    @Test
+    void testTakesTheObviousPop() {
+        ModelBitboard model = new ModelBitboard();
+        for (int x = 0; x < 8; x++) {
+            model.place(new Piece(SINGLE, new Cell(x, 4)));
+        }
+        Plan plan = new BlocksSearch(List.of(SINGLE)).best(model, 1);
+        assertEquals(List.of(new Piece(SINGLE, new Cell(8, 4))), plan.moves());
+    }
+
+    @Test
+    void testPlanIsLegalAndScoresWhatItPromises() {
+        ModelBitboard model = new ModelBitboard();
+        for (int x = 0; x < 7; x++) {
+            model.place(new Piece(SINGLE, new Cell(x, 0)));
+            model.place(new Piece(SINGLE, new Cell(0, x + 1)));
+        }
+        List<Shape> palette = List.of(LINE, CORNER, LINE);
+        Plan plan;
+        try (BlocksSearch search = new BlocksSearch(palette)) {
+            plan = search.best(model, 2);
+        }
+        assertEquals(3, plan.moves().size());
+
+        int before = model.getScore();
+        for (Piece move : plan.moves()) {
+            assertTrue(model.canPlace(move), "Illegal move " + move);
+            model.place(move);
+        }
+        double heuristic = BlocksSearch.evaluate(PlacementMasks.lo(model.getOccupiedCells()),
+                PlacementMasks.hi(model.getOccupiedCells()));
+        assertEquals(plan.value(), model.getScore() - before + heuristic, 1e-9);
+    }
+
+    @Test
+    void testSameAnswerOnAnyNumberOfThreads() {
+        ModelBitboard model = new ModelBitboard();
+        model.place(new Piece(CORNER, new Cell(3, 3)));
+        List<Shape> palette = List.of(CORNER, LINE, SINGLE);
+        Plan single = new BlocksSearch(palette).best(model, 1);
+        try (BlocksSearch search = new BlocksSearch(palette)) {
+            assertEquals(single, search.best(model, 4));
+            // the second search reuses the pool and reads the whole plan from the table
+            long nodes = search.nodes();
+            assertEquals(single, search.best(model, 4));
+            assertEquals(nodes, search.nodes());
+        }
+    }
+
+    @Test
+    void testStuckBoardLoses() {
+        ModelBitboard model = new ModelBitboard();
+        // a checkerboard leaves no room for anything but single cells
+        for (int x = 0; x < ModelInterface.width; x++) {
+            for (int y = 0; y < ModelInterface.height; y++) {
+                if ((x + y) % 2 == 0) {
+                    model.place(new Piece(SINGLE, new Cell(x, y)));
+                }
+            }
+        }
+        Plan plan = new BlocksSearch(List.of(LINE)).best(model, 1);
+        assertTrue(plan.moves().isEmpty());
+        assertEquals(BlocksSearch.LOSS, plan.value());
+    }
+
+    @Test
+    void testLaterMovesReuseTheTable() {
+        ModelBitboard model = new ModelBitboard();
+        List<Shape> palette = List.of(CORNER, LINE, CORNER);
+        BlocksSearch search = new BlocksSearch(palette);
+        assertEquals(0, search.nodesPerSecond(), "No search has run yet");
+        Plan first = search.best(model, 1);
+        model.place(first.moves().get(0));
+        long nodes = search.nodes();
+
+        List<Shape> left = List.of(LINE, CORNER);
+        Plan second = search.best(model, left, 1);
+        assertEquals(first.moves().subList(1, 3), second.moves());
+        BlocksSearch fresh = new BlocksSearch(left);
+        assertEquals(second, fresh.best(model, 1), "Reusing the table must not change the answer");
+        // only the leaves on the way down the best line are evaluated again
+        assertTrue(search.nodes() - nodes < fresh.nodes() / 10,
+                "Reused " + (search.nodes() - nodes) + " nodes, fresh " + fresh.nodes());
+        assertTrue(search.nodesPerSecond() > 0);
+    }
+
+    @Test
+    void testShapesAreMappedToPaletteIndices() {
+        BlocksSearch search = new BlocksSearch(List.of(CORNER, LINE, CORNER));
+        assertEquals(0b111, search.remaining(List.of(CORNER, CORNER, LINE)));
+        assertEquals(0b110, search.remaining(List.of(LINE, CORNER)), "The last corner is the one left");
+        assertEquals(-1, search.remaining(List.of(SINGLE)));
+        assertEquals(-1, search.remaining(List.of(LINE, LINE)));
+        assertThrows(IllegalArgumentException.class, () -> search.best(new ModelBitboard(), List.of(SINGLE), 1));
+    }
+}
@@ -0,0 +1,76 @@
+package blocks;
+
+import blocks.GameSimulator.Policy;
+import blocks.GameSimulator.Report;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSimulatorTest {
+
+    @Test
+    void testGamesEndWithNoLegalMove() {
+        GameSimulator simulator = new GameSimulator(ModelBitboard::new, Policy.random());
+        for (long seed = 0; seed < 20; seed++) {
+            GameSimulator.Game game = simulator.play(seed);
+            assertTrue(game.moves() > 0 && game.moves() < GameSimulator.MAX_MOVES, "Moves: " + game.moves());
+            assertEquals(game, simulator.play(seed), "The same seed should replay the same game");
+        }
+    }
+
+    @Test
+    void testScoresDoNotDependOnThreads() {
+        GameSimulator simulator = new GameSimulator(ModelBitboard::new, Policy.random());
+        Report single = simulator.run(200, 7, 1);
+        Report parallel = simulator.run(200, 7, 4);
+        assertArrayEquals(single.scores(), parallel.scores());
+        assertEquals(single.totalMoves(), parallel.totalMoves());
+        assertEquals(200, single.games());
+    }
+
+    // ModelSet scores the same way as ModelBitboard and lists legal placements in the same order
+    @Test
+    void testModelsPlayTheSameGames() {
+        Report set = new GameSimulator(ModelSet::new, Policy.greedy()).run(20, 3, 2);
+        Report bitboard = new GameSimulator(ModelBitboard::new, Policy.greedy()).run(20, 3, 2);
+        assertArrayEquals(set.scores(), bitboard.scores());
+        assertTrue(bitboard.meanScore() > 0);
+    }
+
+    @Test
+    void testSoundsAreRestoredAfterARun() {
+        GameSimulator simulator = new GameSimulator(ModelBitboard::new, Policy.random());
+        assertFalse(SoundPlayer.isMuted());
+        simulator.play(1);
+        simulator.run(10, 1, 2);
+        assertFalse(SoundPlayer.isMuted(), "The simulator should leave sounds as it found them");
+        SoundPlayer.setMuted(true);
+        try {
+            simulator.run(10, 1, 2);
+            assertTrue(SoundPlayer.isMuted());
+        } finally {
+            SoundPlayer.setMuted(false);
+        }
+    }
+
+    @Test
+    void testEmptyRunReportsZeros() {
+        Report empty = new GameSimulator(ModelBitboard::new, Policy.random()).run(0, 1, 1);
+        assertEquals("0 games", empty.toString());
+        assertEquals(0, empty.percentile(50));
+        assertEquals(0, empty.gamesPerSecond());
+    }
+
+    // Nearest rank: rank = ceil(p / 100 * n), the score at index rank - 1
+    @Test
+    void testPercentileUsesNearestRank() {
+        Report report = new Report(10, 1, new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, 10);
+        assertEquals(1, report.percentile(0));
+        assertEquals(1, report.percentile(10));
+        assertEquals(5, report.percentile(50));
+        assertEquals(6, report.percentile(51));
+        assertEquals(9, report.percentile(90));
+        assertEquals(10, report.percentile(99));
+        assertEquals(10, report.percentile(100));
+    }
+}
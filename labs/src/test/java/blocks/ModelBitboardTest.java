@@ -0,0 +1,102 @@
+package blocks;
+
+import blocks.BlockShapes.Cell;
+import blocks.BlockShapes.Piece;
+import blocks.BlockShapes.Shape;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModelBitboardTest extends AbstractModelTest {
+    @Override
+    protected ModelInterface createModel() {
+        return new ModelBitboard();
+    }
+
+    @Test
+    void testCellsInTheHighWord() {
+        Shape single = new Shape(List.of(new Cell(0, 0)));
+        Piece corner = new Piece(single, new Cell(8, 8));
+        assertTrue(model.canPlace(corner));
+        model.place(corner);
+        assertFalse(model.canPlace(corner));
+        assertEquals(java.util.Set.of(new Cell(8, 8)), model.getOccupiedCells());
+        assertFalse(model.canPlace(new Piece(single, new Cell(9, 8))), "Off the grid");
+    }
+
+    @Test
+    void testPlaceRejectsCellsOffTheGrid() {
+        Shape domino = new Shape(List.of(new Cell(0, 0), new Cell(1, 0)));
+        Piece wrapping = new Piece(domino, new Cell(8, 0)); // (9, 0) would be bit 9, the start of row 1
+        assertThrows(IllegalArgumentException.class, () -> model.place(wrapping));
+        assertThrows(IllegalArgumentException.class, () -> model.place(new Piece(domino, new Cell(0, -1))));
+        assertThrows(IllegalArgumentException.class, () -> model.place(new Piece(domino, new Cell(7, 9))));
+        assertTrue(model.getOccupiedCells().isEmpty(), "A rejected piece leaves the board alone");
+    }
+
+    // (9, 0) would be bit 9, which is the real cell (0, 1)
+    @Test
+    void testRemoveAndIsCompleteRejectCellsOffTheGrid() {
+        Shape single = new Shape(List.of(new Cell(0, 0)));
+        model.place(new Piece(single, new Cell(0, 1)));
+        Shape offGrid = new Shape(List.of(new Cell(9, 0)));
+        assertThrows(IllegalArgumentException.class, () -> model.remove(offGrid));
+        assertThrows(IllegalArgumentException.class, () -> model.isComplete(offGrid));
+        assertEquals(java.util.Set.of(new Cell(0, 1)), model.getOccupiedCells(), "(0, 1) must not be cleared");
+    }
+
+    @Test
+    void testIsCompleteForRegionsAndOtherShapes() {
+        Shape row = ModelBitboard.REGIONS.get(2);
+        for (Cell cell : row) {
+            assertFalse(model.isComplete(row));
+            model.remove(new Shape(List.of(cell))); // clearing an empty cell changes nothing
+            model.place(new Piece(new Shape(List.of(new Cell(0, 0))), cell));
+        }
+        assertFalse(model.isComplete(row), "Placing the last cell popped the row");
+        Shape pair = new Shape(List.of(new Cell(4, 4), new Cell(5, 4)));
+        model.place(new Piece(pair, new Cell(0, 0)));
+        assertTrue(model.isComplete(pair));
+        assertFalse(model.isComplete(new Shape(List.of(new Cell(4, 4), new Cell(6, 4)))));
+    }
+
+    @Test
+    void testRowAndColumnPopTogether() {
+        Shape row = new Shape(List.of(new Cell(0, 0), new Cell(1, 0), new Cell(2, 0), new Cell(3, 0)));
+        Shape col = new Shape(List.of(new Cell(0, 0), new Cell(0, 1), new Cell(0, 2), new Cell(0, 3)));
+        // fill row 8 and column 8 except their shared corner
+        model.place(new Piece(row, new Cell(0, 8)));
+        model.place(new Piece(row, new Cell(4, 8)));
+        model.place(new Piece(col, new Cell(8, 0)));
+        model.place(new Piece(col, new Cell(8, 4)));
+        Piece corner = new Piece(new Shape(List.of(new Cell(0, 0))), new Cell(8, 8));
+        assertEquals(2, model.getPoppableRegions(corner).size());
+        model.place(corner);
+        assertTrue(model.getOccupiedCells().isEmpty(), "Both regions should be cleared, including the shared cell");
+        assertEquals(18 * 2, model.getScore());
+    }
+
+    // Plays the same random moves on a ModelSet and checks the two models always agree
+    @Test
+    void testAgreesWithModelSet() {
+        ModelSet reference = new ModelSet();
+        List<Shape> shapes = new BlockShapes.ShapeSet().getShapes();
+        Random random = new Random(21);
+        for (int move = 0; move < 2000; move++) {
+            Shape shape = shapes.get(random.nextInt(shapes.size()));
+            Piece piece = new Piece(shape, new Cell(random.nextInt(9), random.nextInt(9)));
+            assertEquals(reference.canPlace(piece), model.canPlace(piece));
+            if (model.canPlace(piece)) {
+                assertEquals(reference.getPoppableRegions(piece), model.getPoppableRegions(piece));
+                reference.place(piece);
+                model.place(piece);
+                assertEquals(reference.getOccupiedCells(), model.getOccupiedCells());
+            }
+            assertEquals(reference.isGameOver(List.of(shape)), model.isGameOver(List.of(shape)));
+        }
+        assertEquals(reference.getScore(), model.getScore());
+    }
+}
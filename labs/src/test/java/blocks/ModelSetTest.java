@@ -1,8 +1,28 @@
 package blocks;
 
+import blocks.BlockShapes.Cell;
+import blocks.BlockShapes.Piece;
+import blocks.BlockShapes.Shape;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class ModelSetTest extends AbstractModelTest {
     @Override
     protected ModelInterface createModel() {
         return new ModelSet();
     }
+
+    // isGameOver works on placement masks, which have no bit for a cell off the grid,
+    // so such a cell must never get into the model
+    @Test
+    void testPlaceRejectsCellsOffTheGrid() {
+        Shape domino = new Shape(List.of(new Cell(0, 0), new Cell(1, 0)));
+        assertThrows(IllegalArgumentException.class, () -> model.place(new Piece(domino, new Cell(8, 0))));
+        assertThrows(IllegalArgumentException.class, () -> model.place(new Piece(domino, new Cell(0, -1))));
+        assertTrue(model.getOccupiedCells().isEmpty(), "A rejected piece leaves the board alone");
+        assertFalse(model.isGameOver(List.of(domino)));
+    }
 }
@@ -0,0 +1,37 @@
+package blocks;
+
+import blocks.BlockShapes.Cell;
+import blocks.BlockShapes.Shape;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlacementMasksTest {
+    @Test
+    void testChangingAShapeDoesNotCorruptTheCache() {
+        Shape shape = new Shape(List.of(new Cell(0, 0), new Cell(1, 0)));
+        PlacementMasks domino = PlacementMasks.of(shape);
+        shape.add(new Cell(2, 0));
+        assertEquals(72, domino.size(), "The masks keep the cells they were built from");
+        assertEquals(2, domino.piece(0).shape().size());
+        assertEquals(63, PlacementMasks.of(shape).size(), "The longer shape gets its own masks");
+        assertSame(domino, PlacementMasks.of(new Shape(List.of(new Cell(0, 0), new Cell(1, 0)))));
+    }
+
+    @Test
+    void testCellsMapToTheirWord() {
+        // bits 0 and 63 are the ends of lo, 64 and 80 the ends of hi
+        List<Cell> cells = List.of(new Cell(0, 0), new Cell(0, 7), new Cell(1, 7), new Cell(8, 8));
+        assertEquals(1L | 1L << 63, PlacementMasks.lo(cells));
+        assertEquals(1L | 1L << 16, PlacementMasks.hi(cells));
+    }
+
+    @Test
+    void testCellsOffTheGridAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PlacementMasks.lo(List.of(new Cell(9, 0))));
+        assertThrows(IllegalArgumentException.class, () -> PlacementMasks.hi(List.of(new Cell(0, 9))));
+        assertThrows(IllegalArgumentException.class, () -> PlacementMasks.lo(List.of(new Cell(-1, 1))));
+    }
+}
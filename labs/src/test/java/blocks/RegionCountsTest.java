@@ -0,0 +1,52 @@
+package blocks;
+
+import blocks.BlockShapes.Cell;
+import blocks.BlockShapes.Shape;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionCountsTest {
+
+    @Test
+    void testRegionMaskMatchesRegionHelper() {
+        List<Shape> regions = RegionCounts.REGIONS;
+        for (int x = 0; x < ModelInterface.width; x++) {
+            for (int y = 0; y < ModelInterface.height; y++) {
+                int expected = 0;
+                for (int r = 0; r < regions.size(); r++) {
+                    if (regions.get(r).contains(new Cell(x, y))) {
+                        expected |= 1 << r;
+                    }
+                }
+                assertEquals(expected, RegionCounts.regionMask(x, y), "Cell " + x + ", " + y);
+            }
+        }
+    }
+
+    @Test
+    void testCompleteAndWouldBeComplete() {
+        RegionCounts counts = new RegionCounts();
+        Set<Cell> filled = new HashSet<>();
+        for (int x = 0; x < 8; x++) {
+            Cell cell = new Cell(x, 0);
+            filled.add(cell);
+            counts.fill(cell);
+        }
+        Shape row = RegionCounts.REGIONS.get(0);
+        Cell last = new Cell(8, 0);
+        assertTrue(counts.completeRegions(List.of(last)).isEmpty());
+        // the same cell twice must not count twice, and an off-grid cell counts for nothing
+        assertTrue(counts.wouldBeComplete(List.of(new Cell(7, 0), new Cell(7, 0), new Cell(9, 0)), filled::contains).isEmpty());
+        assertEquals(List.of(row), counts.wouldBeComplete(List.of(last, last), filled::contains));
+
+        counts.fill(last);
+        assertEquals(List.of(row), counts.completeRegions(List.of(last)));
+        counts.clear(new Cell(3, 0));
+        assertTrue(counts.completeRegions(List.of(last)).isEmpty());
+    }
+}
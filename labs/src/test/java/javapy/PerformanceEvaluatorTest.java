@@ -0,0 +1,90 @@
+package javapy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceEvaluatorTest {
+
+    @Test
+    void testDefaultsCoverEveryList() throws IOException {
+        PerformanceEvaluator.Config config = PerformanceEvaluator.Config.parse(new String[0]);
+        assertEquals(List.copyOf(PerformanceEvaluator.LISTS.keySet()), config.lists());
+        assertArrayEquals(new int[]{10, 100, 1000, 10000, 100000}, config.sizes());
+        assertEquals(10, config.trials());
+        assertEquals(EnumSet.allOf(PerformanceEvaluator.Operation.class), config.ops());
+        assertEquals("performance_data.csv", config.output());
+        assertEquals(1, config.parallel(), "Forked JVMs should run one at a time unless asked otherwise");
+        assertFalse(config.worker());
+    }
+
+    @Test
+    void testArgumentsOverrideConfigFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("perf.properties");
+        Files.writeString(file, "lists=IntHashList,EfficientIntArrayList\ntrials=4\nsizes=5,50\n");
+        PerformanceEvaluator.Config config = PerformanceEvaluator.Config.parse(
+                new String[]{"--config=" + file, "--trials=7", "--ops=append", "--parallel=0"});
+        assertEquals(List.of("IntHashList", "EfficientIntArrayList"), config.lists());
+        assertArrayEquals(new int[]{5, 50}, config.sizes());
+        assertEquals(7, config.trials());
+        assertEquals(EnumSet.of(PerformanceEvaluator.Operation.APPEND), config.ops());
+        assertEquals(0, config.parallel());
+    }
+
+    @Test
+    void testBadArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PerformanceEvaluator.Config.parse(new String[]{"--lists=NoSuchList"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> PerformanceEvaluator.Config.parse(new String[]{"trials=3"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> PerformanceEvaluator.Config.parse(new String[]{"--ops=sort"}));
+    }
+
+    @Test
+    void testStats() {
+        List<Long> samples = List.of(5L, 1L, 4L, 2L, 3L, 100L, 6L, 7L, 8L, 9L);
+        PerformanceEvaluator.Stats stats = PerformanceEvaluator.Stats.of(samples);
+        assertEquals(6, stats.median());
+        assertEquals(9, stats.p90());
+        assertEquals(100, stats.p99());
+        assertTrue(stats.stdDev() > 25 && stats.stdDev() < 35);
+        assertEquals(0, PerformanceEvaluator.Stats.of(List.of(42L)).stdDev());
+    }
+
+    @Test
+    void testInProcessRunWritesCsv(@TempDir Path dir) throws Exception {
+        Path output = dir.resolve("out.csv");
+        PerformanceEvaluator.main(new String[]{"--lists=EfficientIntArrayList,GenericLinkedList", "--sizes=10,100",
+                "--trials=2", "--warmup=0", "--parallel=0", "--output=" + output});
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(PerformanceEvaluator.CSV_HEADER, lines.get(0));
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(1).startsWith("EfficientIntArrayList,10,"));
+        assertTrue(lines.get(2).startsWith("GenericLinkedList,10,"));
+        assertTrue(lines.get(4).startsWith("GenericLinkedList,100,"));
+        int columns = PerformanceEvaluator.CSV_HEADER.split(",").length;
+        for (String line : lines) {
+            assertEquals(columns, line.split(",").length, line);
+        }
+    }
+
+    @Test
+    void testSizesAboveAListsCapAreSkipped(@TempDir Path dir) throws Exception {
+        Path output = dir.resolve("out.csv");
+        int cap = PerformanceEvaluator.MAX_SIZES.get("GenericLinkedListRecord");
+        PerformanceEvaluator.main(new String[]{"--lists=GenericLinkedListRecord,OffHeapIntList", "--sizes=10," + (cap + 1),
+                "--trials=1", "--warmup=0", "--ops=append", "--parallel=0", "--output=" + output});
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(4, lines.size(), String.join("\n", lines));
+        assertTrue(lines.get(1).startsWith("GenericLinkedListRecord,10,"));
+        assertTrue(lines.get(3).startsWith("OffHeapIntList," + (cap + 1) + ","));
+    }
+}
@@ -3,6 +3,8 @@ package lists;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.Spliterator;
+
 public abstract class AbstractIntListTest {
 
     // Factory method to create a new IntList instance
@@ -69,5 +71,91 @@ public abstract class AbstractIntListTest {
         }
     }
 
-    // Add more tests as needed
+    @Test
+    public void testGet() {
+        IntList list = createList();
+        int[] values = {5, 3, 7, 1, 9};
+        for (int val : values) {
+            list.append(val);
+        }
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], list.get(i), "Value at index " + i);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(values.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void testAppendAll() {
+        IntList list = createList();
+        list.append(42);
+        int[] values = {0, 5, 3, 7, 1, 9, 0};
+        list.appendAll(values, 1, 5);
+        assertEquals(6, list.length(), "appendAll should append only the requested range");
+        assertArrayEquals(new int[]{42, 5, 3, 7, 1, 9}, list.toArray());
+        list.appendAll(values, 0, 0);
+        assertEquals(6, list.length(), "Appending an empty range should not change the list");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.appendAll(values, 5, 5));
+    }
+
+    @Test
+    public void testForEachAndCopyInto() {
+        IntList list = createList();
+        for (int i = 0; i < 25; i++) {
+            list.append(i * i);
+        }
+        StringBuilder visited = new StringBuilder();
+        list.forEachInt(value -> visited.append(value).append(','));
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            expected.append(i * i).append(',');
+        }
+        assertEquals(expected.toString(), visited.toString(), "forEach should visit values in append order");
+
+        int[] dest = new int[30];
+        list.copyInto(dest);
+        assertEquals(24 * 24, dest[24]);
+        assertEquals(0, dest[25], "copyInto should not write past length()");
+    }
+
+    // A SIZED spliterator must yield exactly the count it reported, whatever is appended later
+    @Test
+    public void testSpliteratorKeepsItsSizeAcrossAppends() {
+        IntList list = createList();
+        for (int i = 0; i < 10; i++) {
+            list.append(i);
+        }
+        Spliterator.OfInt spliterator = list.spliterator();
+        long size = spliterator.estimateSize();
+        list.append(100);
+        long[] seen = {0};
+        spliterator.forEachRemaining((int value) -> seen[0]++);
+        if (spliterator.hasCharacteristics(Spliterator.SIZED)) {
+            assertEquals(size, seen[0], "Reported " + size + " values but yielded " + seen[0]);
+        }
+    }
+
+    @Test
+    public void testCopyIntoShortArrayThrowsBeforeWriting() {
+        IntList list = createList();
+        for (int i = 0; i < 25; i++) {
+            list.append(i + 1);
+        }
+        int[] dest = new int[24];
+        IndexOutOfBoundsException e = assertThrowsExactly(IndexOutOfBoundsException.class, () -> list.copyInto(dest));
+        assertEquals("Destination length: 24, Length: 25", e.getMessage());
+        assertArrayEquals(new int[24], dest, "Nothing should be written into a destination that is too short");
+    }
+
+    @Test
+    public void testIntStream() {
+        IntList list = createList();
+        for (int i = 0; i < 3000; i++) {
+            list.append(i);
+        }
+        assertEquals(3000, list.spliterator().estimateSize(), "Spliterator should know its size");
+        assertEquals(4_498_500, list.intStream().sum());
+        assertEquals(1500, list.parallelIntStream().filter(value -> value % 2 == 0).count());
+        assertArrayEquals(list.toArray(), list.parallelIntStream().toArray(), "Parallel stream should keep order");
+    }
 }
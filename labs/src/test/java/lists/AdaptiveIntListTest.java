@@ -0,0 +1,103 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveIntListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+        return new AdaptiveIntList();
+    }
+
+    @Test
+    void testSmallListStaysInline() {
+        AdaptiveIntList list = new AdaptiveIntList();
+        for (int i = 0; i < AdaptiveIntList.MIN_INDEX_SIZE - 1; i++) {
+            list.append(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(list.contains(i % list.length()));
+        }
+        assertEquals(AdaptiveIntList.Layout.INLINE, list.layout());
+    }
+
+    @Test
+    void testRepeatedContainsSwitchesToHash() {
+        AdaptiveIntList list = new AdaptiveIntList();
+        for (int i = 0; i < 1000; i++) {
+            list.append(i * 3);
+        }
+        for (int i = 0; i <= AdaptiveIntList.INDEX_BUDGET; i++) {
+            assertEquals(AdaptiveIntList.Layout.INLINE, list.layout());
+            assertTrue(list.contains(i * 3));
+        }
+        assertEquals(AdaptiveIntList.Layout.HASHED, list.layout());
+        assertTrue(list.contains(2997));
+        assertFalse(list.contains(2998));
+        list.append(-5);
+        assertTrue(list.contains(-5));
+        assertEquals(1001, list.length());
+        assertEquals(0, list.get(0));
+        assertEquals(-5, list.get(1000));
+    }
+
+    @Test
+    void testGrowthSwitchesToChunks() {
+        AdaptiveIntList list = new AdaptiveIntList();
+        int n = AdaptiveIntList.CHUNK_THRESHOLD + 10;
+        for (int i = 0; i < n; i++) {
+            list.append(i);
+        }
+        assertEquals(AdaptiveIntList.Layout.CHUNKED, list.layout());
+        assertEquals(n, list.length());
+        for (int i = 0; i < n; i += 997) {
+            assertEquals(i, list.get(i));
+        }
+        assertEquals((long) n * (n - 1) / 2, list.intStream().asLongStream().sum());
+
+    }
+
+    // The PerformanceEvaluator pattern: fill past the chunk threshold first, then query
+    @Test
+    void testChunkedListIsIndexedOnceContainsDominates() {
+        AdaptiveIntList list = new AdaptiveIntList();
+        int n = AdaptiveIntList.CHUNK_THRESHOLD + 10;
+        for (int i = 0; i < n; i++) {
+            list.append(i * 2);
+        }
+        assertEquals(AdaptiveIntList.Layout.CHUNKED, list.layout());
+        for (int i = 0; i <= AdaptiveIntList.INDEX_BUDGET; i++) {
+            assertEquals(AdaptiveIntList.Layout.CHUNKED, list.layout());
+            assertTrue(list.contains(i * 2));
+        }
+        assertEquals(AdaptiveIntList.Layout.HASHED, list.layout());
+        assertTrue(list.contains(2 * (n - 1)));
+        assertFalse(list.contains(3));
+
+        // later appends go into the chunks and the index
+        list.append(-7);
+        list.appendAll(new int[]{11, 13}, 0, 2);
+        assertTrue(list.contains(-7));
+        assertTrue(list.contains(13));
+        assertEquals(n + 3, list.length());
+        assertEquals(2 * (n - 1), list.get(n - 1));
+        assertEquals(-7, list.get(n));
+    }
+
+    @Test
+    void testAppendAllPastThresholdSwitchesToChunks() {
+        AdaptiveIntList list = new AdaptiveIntList();
+        int[] batch = new int[AdaptiveIntList.CHUNK_THRESHOLD + 1];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = i;
+        }
+        list.append(-1);
+        list.appendAll(batch, 0, batch.length);
+        assertEquals(AdaptiveIntList.Layout.CHUNKED, list.layout());
+        assertEquals(batch.length + 1, list.length());
+        assertEquals(-1, list.get(0));
+        assertEquals(batch.length - 1, list.get(batch.length));
+    }
+}
@@ -0,0 +1,83 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedIntListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+        return new CompressedIntList();
+    }
+
+    @Test
+    void testSequentialValuesUseUnderOneBytePerElement() {
+        CompressedIntList list = new CompressedIntList();
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            list.append(i);
+        }
+        assertTrue(list.bytesPerElement() < 1.0, "bytes per element: " + list.bytesPerElement());
+        assertTrue(list.contains(0));
+        assertTrue(list.contains(n - 1));
+        assertFalse(list.contains(n));
+        assertEquals(54_321, list.get(54_321));
+    }
+
+    @Test
+    void testIncreasingIdsWithGapsRoundTrip() {
+        CompressedIntList list = new CompressedIntList();
+        SplittableRandom random = new SplittableRandom(16);
+        int[] expected = new int[10_000];
+        int id = 1_000;
+        for (int i = 0; i < expected.length; i++) {
+            id += 1 + random.nextInt(20);
+            expected[i] = id;
+            list.append(id);
+        }
+        assertArrayEquals(expected, list.toArray());
+        assertTrue(list.bytesPerElement() < Integer.BYTES);
+        for (int i = 0; i < expected.length; i += 37) {
+            assertEquals(expected[i], list.get(i));
+            assertTrue(list.contains(expected[i]));
+        }
+    }
+
+    @Test
+    void testArbitraryValuesRoundTrip() {
+        CompressedIntList list = new CompressedIntList();
+        SplittableRandom random = new SplittableRandom(7);
+        int[] expected = new int[1_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i % 10 == 0 ? (i % 20 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE) : random.nextInt();
+            list.append(expected[i]);
+        }
+        assertArrayEquals(expected, list.toArray());
+        int[] visited = new int[expected.length];
+        int[] index = {0};
+        list.forEachInt((int value) -> visited[index[0]++] = value);
+        assertArrayEquals(expected, visited);
+        assertTrue(list.contains(Integer.MIN_VALUE));
+        assertTrue(list.contains(Integer.MAX_VALUE));
+        assertTrue(list.contains(expected[999]));
+        assertEquals(expected[777], list.get(777));
+    }
+
+    // A reader inside forEachInt() must not disturb the block being visited
+    @Test
+    void testContainsInsideForEach() {
+        CompressedIntList list = new CompressedIntList();
+        for (int i = 0; i < 3 * CompressedIntList.BLOCK_SIZE; i++) {
+            list.append(i * 7);
+        }
+        int[] index = {0};
+        list.forEachInt((int value) -> {
+            assertTrue(list.contains(value * 7 % (3 * CompressedIntList.BLOCK_SIZE * 7)));
+            assertEquals(index[0]++ * 7, value);
+        });
+        assertEquals(list.length(), index[0]);
+    }
+}
@@ -0,0 +1,45 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentIntListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+        return new ConcurrentIntList();
+    }
+
+    @Test
+    void testConcurrentAppendsAreAllKept() throws InterruptedException {
+        ConcurrentIntList list = new ConcurrentIntList();
+        int producers = 4;
+        int perProducer = 50_000; // enough to cross several chunks
+        Thread[] threads = new Thread[producers];
+        for (int t = 0; t < producers; t++) {
+            int base = t * perProducer;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    list.append(base + i);
+                }
+            });
+            threads[t].start();
+        }
+        // readers may run while the producers are still appending
+        assertFalse(list.contains(-1));
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, list.length());
+        int[] values = list.toArray();
+        Arrays.sort(values);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i, values[i], "Every appended value should appear exactly once");
+        }
+        assertTrue(list.contains(producers * perProducer - 1));
+    }
+}
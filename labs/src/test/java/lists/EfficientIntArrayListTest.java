@@ -49,4 +49,16 @@ class EfficientIntArrayListTest {
         assertTrue(list.contains(15));
         assertFalse(list.contains(25));
     }
+
+    @Test
+    void testBulkOperations() {
+        list.appendAll(new int[]{1, 2, 3, 4}, 1, 3);
+        list.append(5);
+        assertEquals(4, list.length());
+        assertEquals(3, list.get(1));
+        assertArrayEquals(new int[]{2, 3, 4, 5}, list.toArray());
+        int[] sum = {0};
+        list.forEachInt(value -> sum[0] += value);
+        assertEquals(14, sum[0]);
+    }
 }
\ No newline at end of file
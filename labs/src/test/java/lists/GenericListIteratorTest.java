@@ -0,0 +1,106 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenericListIteratorTest {
+    private static final List<Supplier<GenericList<Integer>>> FAIL_FAST_LISTS =
+            List.of(GenericArrayList::new, GenericLinkedList::new);
+
+    private static void fill(GenericList<Integer> list, int n) {
+        for (int i = 0; i < n; i++) {
+            list.append(i);
+        }
+    }
+
+    @Test
+    void testAppendDuringIterationFailsFast() {
+        for (Supplier<GenericList<Integer>> maker : FAIL_FAST_LISTS) {
+            GenericList<Integer> list = maker.get();
+            fill(list, 3);
+            Iterator<Integer> it = list.iterator();
+            assertEquals(0, it.next());
+            list.append(3);
+            assertThrows(ConcurrentModificationException.class, it::next, list.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void testNextPastEndThrows() {
+        for (Supplier<GenericList<Integer>> maker : FAIL_FAST_LISTS) {
+            GenericList<Integer> list = maker.get();
+            fill(list, 2);
+            Iterator<Integer> it = list.iterator();
+            it.next();
+            it.next();
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, it::next, list.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void testArrayListSnapshotIgnoresLaterAppends() {
+        GenericArrayList<Integer> list = new GenericArrayList<>();
+        fill(list, 10);
+        checkSnapshot(list::snapshotIterator, list);
+    }
+
+    @Test
+    void testLinkedListSnapshotIgnoresLaterAppends() {
+        GenericLinkedList<Integer> list = new GenericLinkedList<>();
+        fill(list, 10);
+        checkSnapshot(list::snapshotIterator, list);
+    }
+
+    private static void checkSnapshot(Supplier<Iterator<Integer>> snapshots, GenericList<Integer> list) {
+        Iterator<Integer> it = snapshots.get();
+        int count = 0;
+        while (it.hasNext()) {
+            assertEquals(count, it.next());
+            list.append(-1); // forces several resizes of the array list
+            list.append(-1);
+            count++;
+        }
+        assertEquals(10, count);
+        assertEquals(30, list.length());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void testSnapshotsWhileAnotherThreadAppends() throws InterruptedException {
+        GenericArrayList<Integer> arrayList = new GenericArrayList<>();
+        GenericLinkedList<Integer> linkedList = new GenericLinkedList<>();
+        int n = 200_000;
+        Thread appender = new Thread(() -> {
+            for (int i = 0; i < n; i++) {
+                arrayList.append(i);
+                linkedList.append(i);
+            }
+        });
+        appender.start();
+        while (appender.isAlive()) {
+            checkPrefix(arrayList.snapshotIterator());
+            checkPrefix(linkedList.snapshotIterator());
+        }
+        appender.join();
+        assertEquals(n, checkPrefix(arrayList.snapshotIterator()));
+        assertEquals(n, checkPrefix(linkedList.snapshotIterator()));
+    }
+
+    // A snapshot must always see 0, 1, 2, ... with no gaps or nulls
+    private static int checkPrefix(Iterator<Integer> it) {
+        int expected = 0;
+        while (it.hasNext()) {
+            assertEquals(expected, it.next());
+            expected++;
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,42 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenericListStreamTest {
+
+    private static void fill(GenericList<Integer> list, int n) {
+        for (int i = 0; i < n; i++) {
+            list.append(i);
+        }
+    }
+
+    @Test
+    void testArrayListSplitsByIndex() {
+        GenericArrayList<Integer> list = new GenericArrayList<>();
+        fill(list, 1000);
+        Spliterator<Integer> right = list.spliterator();
+        Spliterator<Integer> left = right.trySplit();
+        assertNotNull(left);
+        assertEquals(500, left.estimateSize());
+        assertEquals(500, right.estimateSize());
+    }
+
+    @Test
+    void testParallelStreamsKeepOrder() {
+        for (GenericList<Integer> list : List.of(
+                new GenericArrayList<Integer>(), new GenericLinkedList<Integer>(), new PersistentGenericList<Integer>())) {
+            fill(list, 5000);
+            assertEquals(list.length(), list.stream().count());
+            List<Integer> sequential = list.stream().collect(Collectors.toList());
+            List<Integer> parallel = list.parallelStream().collect(Collectors.toList());
+            assertEquals(sequential, parallel, list.getClass().getSimpleName());
+            assertEquals(12_497_500L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        }
+    }
+}
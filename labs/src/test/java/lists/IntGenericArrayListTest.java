@@ -0,0 +1,52 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntGenericArrayListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+
+        // the wrapper should detect the IntList and use the unboxed methods
+        return new GenIntListWrapper(new IntGenericArrayList());
+    }
+
+    @Test
+    void testGenericAndIntViewsShareValues() {
+        IntGenericArrayList list = new IntGenericArrayList();
+        GenericList<Integer> generic = list;
+        generic.append(Integer.valueOf(4));
+        list.append(5);
+        assertTrue(generic.contains(Integer.valueOf(5)));
+        assertTrue(list.contains(4));
+        assertFalse(generic.contains((Integer) null));
+        assertEquals(2, generic.length());
+
+        Iterator<Integer> it = generic.iterator();
+        assertEquals(4, it.next());
+        assertEquals(5, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    // Iterable.forEach and IntList.forEachInt have different names, so an implicitly typed lambda is not ambiguous
+    @Test
+    void testBothForEachViews() {
+        IntGenericArrayList list = new IntGenericArrayList();
+        list.append(2);
+        list.append(3);
+        int[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+        list.forEachInt(value -> sum[0] += value);
+        assertEquals(10, sum[0]);
+    }
+
+    @Test
+    void testAppendNullRejected() {
+        GenericList<Integer> list = new IntGenericArrayList();
+        assertThrows(NullPointerException.class, () -> list.append((Integer) null));
+    }
+}
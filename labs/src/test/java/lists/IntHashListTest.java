@@ -0,0 +1,44 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntHashListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+        return new IntHashList();
+    }
+
+    @Test
+    void testZeroAndNegativeValues() {
+        IntList list = createList();
+        assertFalse(list.contains(0), "Empty list should not contain 0");
+        list.append(0);
+        list.append(-7);
+        assertTrue(list.contains(0), "List should contain 0");
+        assertTrue(list.contains(-7), "List should contain -7");
+        assertFalse(list.contains(7), "List should not contain 7");
+    }
+
+    @Test
+    void testDuplicatesCountTowardsLength() {
+        IntList list = createList();
+        list.append(3);
+        list.append(3);
+        assertEquals(2, list.length(), "Duplicates should still be appended");
+        assertTrue(list.contains(3));
+    }
+
+    @Test
+    void testManyValuesAfterRehash() {
+        IntList list = createList();
+        for (int i = 0; i < 10000; i++) {
+            list.append(i * 31);
+        }
+        assertEquals(10000, list.length());
+        assertTrue(list.contains(31 * 9999));
+        assertFalse(list.contains(30));
+    }
+}
@@ -0,0 +1,45 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntSearchTest {
+
+    @Test
+    void testVectorPathSelectedWhenModuleAdded() {
+        // the test task runs with --add-modules jdk.incubator.vector
+        assertTrue(IntSearch.VECTORIZED, "Vector API should be used when the module is present");
+    }
+
+    @Test
+    void testVectorAndScalarAgree() {
+        Random random = new Random(42);
+        for (int len : new int[]{0, 1, 7, 8, 15, 16, 17, 100, 1003}) {
+            int[] values = new int[len + 5]; // extra slack past len must be ignored
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(20);
+            }
+            for (int probe = -1; probe <= 20; probe++) {
+                assertEquals(IntSearch.scalarIndexOf(values, len, probe), IntVectorSearch.indexOf(values, len, probe),
+                        "indexOf(" + probe + ") with len " + len);
+                assertEquals(IntSearch.scalarCount(values, len, probe), IntVectorSearch.count(values, len, probe),
+                        "count(" + probe + ") with len " + len);
+            }
+        }
+    }
+
+    @Test
+    void testArrayListIndexOfAndCount() {
+        EfficientIntArrayList list = new EfficientIntArrayList();
+        for (int i = 0; i < 50; i++) {
+            list.append(i % 10);
+        }
+        assertEquals(3, list.indexOf(3));
+        assertEquals(-1, list.indexOf(10));
+        assertEquals(5, list.count(7));
+        assertEquals(0, list.count(-7));
+    }
+}
@@ -0,0 +1,72 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoryFootprintTest {
+
+    private static final List<Supplier<IntList>> INT_LISTS = List.of(
+            IntArrayList::new, EfficientIntArrayList::new, IntLinkedList::new, EfficientIntLinkedList::new,
+            UnrolledIntLinkedList::new, IntHashList::new, OffHeapIntList::new, SegmentedIntArrayList::new,
+            ConcurrentIntList::new, AdaptiveIntList::new, CompressedIntList::new, SortedIntList::new,
+            RoaringIntList::new, IntGenericArrayList::new,
+            () -> new GenIntListWrapper(new GenericArrayList<>()),
+            () -> new GenIntListWrapper(new GenericLinkedList<>()),
+            () -> new GenIntListWrapper(new GenericLinkedListRecord<>()),
+            () -> new GenIntListWrapper(new PersistentGenericList<>()),
+            () -> new GenIntListWrapper(new ShardedGenericList<>()));
+
+    @Test
+    void testAlignment() {
+        assertEquals(16, MemoryFootprint.object(1));
+        assertEquals(16, MemoryFootprint.object(4));
+        assertEquals(24, MemoryFootprint.object(8));
+        assertEquals(16, MemoryFootprint.intArray(0));
+        assertEquals(56, MemoryFootprint.intArray(10));
+    }
+
+    @Test
+    void testEstimatesGrowWithTheList() {
+        for (Supplier<IntList> maker : INT_LISTS) {
+            IntList list = maker.get();
+            long empty = list.estimatedBytes();
+            assertTrue(empty > 0);
+            for (int i = 0; i < 5000; i++) {
+                list.append(i * 7);
+            }
+            String name = list.getClass().getSimpleName();
+            assertTrue(list.estimatedBytes() > empty, name + " should report more bytes once filled");
+        }
+    }
+
+    @Test
+    void testLinkedListsCostMoreThanArrays() {
+        IntList array = new EfficientIntArrayList();
+        IntList linked = new EfficientIntLinkedList();
+        for (int i = 0; i < 10_000; i++) {
+            array.append(i);
+            linked.append(i);
+        }
+        // an int per value (plus spare capacity) against a 24-byte node per value
+        assertTrue(array.estimatedBytes() < 10_000 * 8);
+        assertEquals(10_000 * 24, linked.estimatedBytes(), 64);
+    }
+
+    @Test
+    void testAllocationCounterSeesAppends() {
+        if (!MemoryHarness.isSupported()) {
+            return;
+        }
+        IntList list = new EfficientIntLinkedList();
+        long allocated = MemoryHarness.allocatedBy(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                list.append(i);
+            }
+        });
+        assertTrue(allocated >= 10_000 * 16, "each append allocates a node, got " + allocated);
+    }
+}
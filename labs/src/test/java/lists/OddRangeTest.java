@@ -2,7 +2,11 @@ package lists;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.NoSuchElementException;
 
 class OddRangeTest {
 
@@ -89,4 +93,46 @@ class OddRangeTest {
 
         assertFalse(iterator.hasNext());
     }
+
+    @Test
+    void testIntStream() {
+        OddRange range = new OddRange(-6, 5);
+        assertArrayEquals(new int[]{-5, -3, -1, 1, 3}, range.intStream().toArray());
+        OddRange big = new OddRange(0, 100_000);
+        assertEquals(50_000, big.parallelIntStream().count());
+        assertEquals(big.intStream().asLongStream().sum(), big.parallelIntStream().asLongStream().sum());
+        assertEquals(0, new OddRange(5, -5).intStream().count(), "Backwards range should be empty");
+    }
+
+    @Test
+    void testPrimitiveIteration() {
+        PrimitiveIterator.OfInt iterator = new OddRange(2, 6).iterator();
+        assertEquals(3, iterator.nextInt());
+        assertEquals(5, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    // forEachInt is not an overload of Iterable.forEach, so an untyped lambda still picks the boxed one
+    @Test
+    void testIterableForEach() {
+        List<Integer> seen = new ArrayList<>();
+        new OddRange(0, 6).forEach(x -> seen.add(x));
+        assertEquals(List.of(1, 3, 5), seen);
+    }
+
+    @Test
+    void testForEachSumAndCount() {
+        for (int[] bounds : new int[][]{{-6, 5}, {1, 10}, {2, 10}, {7, 15}, {5, 5}, {5, -5}, {-7, -1}}) {
+            OddRange range = new OddRange(bounds[0], bounds[1]);
+            long[] total = {0};
+            long[] count = {0};
+            range.forEachInt(value -> {
+                total[0] += value;
+                count[0]++;
+            });
+            assertEquals(total[0], range.sum(), "sum for " + bounds[0] + ".." + bounds[1]);
+            assertEquals(count[0], range.count(), "count for " + bounds[0] + ".." + bounds[1]);
+        }
+    }
 }
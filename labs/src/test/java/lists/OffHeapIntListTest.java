@@ -0,0 +1,55 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapIntListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+        return new OffHeapIntList();
+    }
+
+    @Test
+    void testBulkAppendAcrossChunks() {
+        try (OffHeapIntList list = new OffHeapIntList()) {
+            int[] values = new int[200_000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i;
+            }
+            list.append(-1);
+            list.append(values);
+            assertEquals(values.length + 1, list.length());
+            assertEquals(-1, list.get(0));
+            assertEquals(199_999, list.get(values.length));
+            assertTrue(list.contains(150_000));
+            assertFalse(list.contains(200_000));
+        }
+    }
+
+    @Test
+    void testReaderVisitsValuesInOrder() {
+        try (OffHeapIntList list = new OffHeapIntList()) {
+            for (int i = 0; i < 70_000; i++) {
+                list.append(i * 2);
+            }
+            OffHeapIntList.Reader reader = list.reader();
+            int expected = 0;
+            while (reader.hasNext()) {
+                assertEquals(expected, reader.nextInt());
+                expected += 2;
+            }
+            assertEquals(140_000, expected);
+        }
+    }
+
+    @Test
+    void testClosedListRejectsUse() {
+        OffHeapIntList list = new OffHeapIntList();
+        list.append(1);
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.append(2));
+        assertThrows(IllegalStateException.class, () -> list.contains(1));
+    }
+}
@@ -0,0 +1,52 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentGenericListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+
+        // return an GenIntListWrapper object that wraps around a PersistentGenericList object
+        return new GenIntListWrapper(new PersistentGenericList<Integer>());
+    }
+
+    @Test
+    void testLargeListInOrder() {
+        // well past the point where GenericLinkedListRecord overflows the stack
+        PersistentGenericList<Integer> list = new PersistentGenericList<>();
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            list.append(i);
+        }
+        assertEquals(n, list.length());
+        int expected = 0;
+        for (Integer value : list) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(n, expected);
+        assertEquals(40_000, list.get(40_000));
+    }
+
+    @Test
+    void testSnapshotsAreUnaffectedByLaterAppends() {
+        PersistentGenericList<String> list = new PersistentGenericList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.append("v" + i);
+        }
+        PersistentGenericList.Version<String> snapshot = list.snapshot();
+        PersistentGenericList<String> branch = new PersistentGenericList<>(snapshot);
+        list.append("main");
+        branch.append("branch");
+
+        assertEquals(1000, snapshot.size());
+        assertEquals("main", list.get(1000));
+        assertEquals("branch", branch.get(1000));
+        assertEquals("v999", snapshot.get(999));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(1000));
+        assertTrue(list.contains("v500"));
+        assertFalse(list.contains("branch"));
+    }
+}
@@ -2,7 +2,12 @@ package lists;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 class RangeTest {
 
@@ -65,4 +70,63 @@ class RangeTest {
 
         assertFalse(iterator.hasNext());
     }
+
+    @Test
+    void testIntStream() {
+        Range range = new Range(-3, 1000);
+        assertEquals(1003, range.intStream().count());
+        assertEquals(499_494, range.intStream().sum());
+        assertEquals(range.intStream().sum(), range.parallelIntStream().sum(),
+                "Parallel and sequential sums should match");
+        assertEquals(0, new Range(5, 2).intStream().count(), "Backwards range should be empty");
+    }
+
+    @Test
+    void testSpliteratorSplitsEvenly() {
+        Spliterator.OfInt right = new Range(0, 100).spliterator();
+        Spliterator.OfInt left = right.trySplit();
+        assertNotNull(left);
+        assertEquals(50, left.estimateSize());
+        assertEquals(50, right.estimateSize());
+        assertTrue(right.hasCharacteristics(Spliterator.SUBSIZED));
+    }
+
+    @Test
+    void testPrimitiveIteration() {
+        PrimitiveIterator.OfInt iterator = new Range(7, 9).iterator();
+        assertEquals(7, iterator.nextInt());
+        assertEquals(8, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    // forEachInt is not an overload of Iterable.forEach, so an untyped lambda still picks the boxed one
+    @Test
+    void testIterableForEach() {
+        List<Integer> seen = new ArrayList<>();
+        new Range(0, 3).forEach(x -> seen.add(x));
+        assertEquals(List.of(0, 1, 2), seen);
+    }
+
+    @Test
+    void testForEachSumAndCount() {
+        Range range = new Range(-3, 1000);
+        long[] total = {0};
+        range.forEachInt(value -> total[0] += value);
+        assertEquals(499_494, total[0]);
+        assertEquals(499_494, range.sum());
+        assertEquals(1003, range.count());
+        assertEquals(0, new Range(5, 2).sum());
+        assertEquals(0, new Range(5, 2).count());
+        // the closed forms must not overflow, checked against small ranges at each end of int
+        // and against the known values for the widest range, without walking its 2^32 values
+        Range low = new Range(Integer.MIN_VALUE, Integer.MIN_VALUE + 3);
+        Range high = new Range(Integer.MAX_VALUE - 3, Integer.MAX_VALUE);
+        assertEquals(low.intStream().asLongStream().sum(), low.sum());
+        assertEquals(high.intStream().asLongStream().sum(), high.sum());
+        assertEquals(3, high.intStream().count(), "Iteration should stop at MAX_VALUE without wrapping");
+        Range wide = new Range(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals((1L << 32) - 1, wide.count());
+        assertEquals(-((1L << 32) - 1), wide.sum());
+    }
 }
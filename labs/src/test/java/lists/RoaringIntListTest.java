@@ -0,0 +1,112 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringIntListTest {
+
+    private static RoaringIntList of(int... values) {
+        RoaringIntList list = new RoaringIntList();
+        for (int value : values) {
+            list.append(value);
+        }
+        return list;
+    }
+
+    @Test
+    void testEmptyList() {
+        RoaringIntList list = new RoaringIntList();
+        assertEquals(0, list.length());
+        assertFalse(list.contains(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    void testSetSemanticsAndOrder() {
+        RoaringIntList list = of(70_000, 5, -3, 5, 1 << 20, -100_000);
+        assertEquals(5, list.length(), "Appending a duplicate should not change the length");
+        assertArrayEquals(new int[]{-100_000, -3, 5, 70_000, 1 << 20}, list.toArray());
+        assertEquals(-3, list.get(1));
+        assertTrue(list.contains(-100_000));
+        assertFalse(list.contains(6));
+    }
+
+    @Test
+    void testDenseRangeUsesBitmapsAndRuns() {
+        RoaringIntList list = new RoaringIntList();
+        int n = 300_000;
+        for (int i = 0; i < n; i++) {
+            list.append(i);
+        }
+        assertEquals(n, list.length());
+        assertTrue(list.bytesPerElement() < 0.2, "bytes per element: " + list.bytesPerElement());
+        assertEquals(123_456, list.get(123_456));
+        list.runOptimize();
+        assertTrue(list.bytesPerElement() < 0.001, "bytes per element after runOptimize: " + list.bytesPerElement());
+        assertTrue(list.contains(0));
+        assertTrue(list.contains(n - 1));
+        assertFalse(list.contains(n));
+        assertEquals(123_456, list.get(123_456));
+        assertEquals((long) n * (n - 1) / 2, list.intStream().asLongStream().sum());
+        list.append(n + 5);
+        assertTrue(list.contains(n + 5), "Adding to a run container should still work");
+        assertEquals(n + 1, list.length());
+    }
+
+    @Test
+    void testMatchesTreeSetOnRandomValues() {
+        SplittableRandom random = new SplittableRandom(18);
+        RoaringIntList list = new RoaringIntList();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            // mostly in a few dense groups, so arrays turn into bitmaps
+            int value = i % 4 == 0 ? random.nextInt() : random.nextInt(3 << 16);
+            list.append(value);
+            expected.add(value);
+        }
+        assertEquals(expected.size(), list.length());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), list.toArray());
+        for (int i = 0; i < 1000; i++) {
+            int probe = random.nextInt(3 << 16);
+            assertEquals(expected.contains(probe), list.contains(probe));
+        }
+    }
+
+    @Test
+    void testUnionAndIntersection() {
+        RoaringIntList evens = new RoaringIntList();
+        RoaringIntList range = new RoaringIntList();
+        RoaringIntList sparse = of(3, 4, 200_000, 200_002, -8);
+        BitSet expectedEvens = new BitSet();
+        for (int i = 0; i < 150_000; i++) {
+            range.append(i);
+            if (i % 2 == 0) {
+                evens.append(i);
+                expectedEvens.set(i);
+            }
+        }
+        range.runOptimize();
+
+        RoaringIntList both = range.intersection(evens);
+        assertEquals(75_000, both.length());
+        assertTrue(both.contains(149_998));
+        assertFalse(both.contains(149_999));
+
+        assertArrayEquals(new int[]{4}, evens.intersection(sparse).toArray());
+        assertArrayEquals(new int[]{3, 4}, sparse.intersection(range).toArray());
+
+        RoaringIntList all = sparse.union(evens);
+        assertEquals(75_000 + 4, all.length());
+        assertTrue(all.contains(3));
+        assertTrue(all.contains(-8));
+        assertTrue(all.contains(200_002));
+        assertEquals(150_000 + 3, range.union(sparse).length());
+        assertEquals(75_000, evens.length(), "Operands should not change");
+        assertEquals(5, sparse.length(), "Operands should not change");
+    }
+}
@@ -0,0 +1,42 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SegmentedIntArrayListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+        return new SegmentedIntArrayList();
+    }
+
+    @Test
+    void testGetAcrossChunks() {
+        SegmentedIntArrayList list = new SegmentedIntArrayList();
+        for (int i = 0; i < 10_000; i++) {
+            list.append(i * 3);
+        }
+        assertEquals(0, list.get(0));
+        assertEquals(4095 * 3, list.get(4095));
+        assertEquals(4096 * 3, list.get(4096));
+        assertEquals(9_999 * 3, list.get(9_999));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10_000));
+    }
+
+    @Test
+    void testIteratorVisitsValuesInOrder() {
+        SegmentedIntArrayList list = new SegmentedIntArrayList();
+        for (int i = 0; i < 9_000; i++) {
+            list.append(i);
+        }
+        PrimitiveIterator.OfInt it = list.iterator();
+        int expected = 0;
+        while (it.hasNext()) {
+            assertEquals(expected++, it.nextInt());
+        }
+        assertEquals(9_000, expected);
+    }
+}
@@ -0,0 +1,81 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedGenericListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+
+        // a single stripe keeps append order, which the shared get/forEach tests rely on
+        return new GenIntListWrapper(new ShardedGenericList<Integer>(1));
+    }
+
+    @Test
+    void testConcurrentAppends() throws InterruptedException {
+        ShardedGenericList<Integer> list = new ShardedGenericList<>(8);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int base = t * 10_000;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    list.append(base + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, list.length());
+        Set<Integer> seen = new HashSet<>();
+        for (Integer value : list) {
+            assertTrue(seen.add(value), "Each value should be iterated once: " + value);
+        }
+        assertEquals(40_000, seen.size());
+        assertTrue(list.contains(39_999));
+        assertFalse(list.contains(40_000));
+    }
+
+    // toArray() trusts the spliterator's size, so a size that disagrees with the values would show here
+    @Test
+    void testStreamDuringAppends() throws InterruptedException {
+        ShardedGenericList<Integer> list = new ShardedGenericList<>(8);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 200_000; i++) {
+                list.append(i);
+            }
+        });
+        producer.start();
+        while (producer.isAlive()) {
+            Object[] values = list.stream().toArray();
+            for (Object value : values) {
+                assertNotNull(value);
+            }
+        }
+        producer.join();
+        assertEquals(200_000, list.stream().count());
+    }
+
+    @Test
+    void testIteratorIsASnapshot() {
+        ShardedGenericList<String> list = new ShardedGenericList<>();
+        list.append("a");
+        list.append("b");
+        Iterator<String> it = list.iterator();
+        list.append("c");
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        assertEquals(2, count, "Appends after the snapshot should not be seen");
+        assertEquals(3, list.length());
+    }
+}
@@ -0,0 +1,104 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedIntListTest {
+
+    @Test
+    void testEmptyList() {
+        SortedIntList list = new SortedIntList();
+        assertEquals(0, list.length());
+        assertFalse(list.contains(0));
+        assertEquals(0, list.toArray().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    void testValuesComeBackSorted() {
+        SortedIntList list = new SortedIntList();
+        int[] values = {5, 3, 7, 1, 9, 3};
+        for (int value : values) {
+            list.append(value);
+        }
+        assertEquals(values.length, list.length());
+        assertArrayEquals(new int[]{1, 3, 3, 5, 7, 9}, list.toArray());
+        assertEquals(1, list.get(0));
+        assertEquals(9, list.get(5));
+        StringBuilder visited = new StringBuilder();
+        list.forEachInt(value -> visited.append(value).append(','));
+        assertEquals("1,3,3,5,7,9,", visited.toString());
+    }
+
+    @Test
+    void testContainsAcrossMergesAndPendingValues() {
+        SortedIntList list = new SortedIntList();
+        SplittableRandom random = new SplittableRandom(3);
+        int[] expected = new int[20_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(100_000) * 2;
+            list.append(expected[i]);
+            if (i % 1000 == 0) {
+                assertTrue(list.contains(expected[i]), "just appended value should be found");
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            int probe = random.nextInt(200_000);
+            boolean present = probe % 2 == 0 && Arrays.stream(expected).anyMatch(v -> v == probe);
+            assertEquals(present, list.contains(probe), "contains(" + probe + ")");
+        }
+        list.append(-1);
+        assertTrue(list.contains(-1));
+        Arrays.sort(expected);
+        assertEquals(-1, list.get(0));
+        assertEquals(expected[expected.length - 1], list.get(expected.length));
+    }
+
+    @Test
+    void testAppendAllMergesBatch() {
+        SortedIntList list = new SortedIntList();
+        list.append(42);
+        int[] batch = new int[5000];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = batch.length - i;
+        }
+        list.appendAll(batch, 0, batch.length);
+        assertEquals(5001, list.length());
+        assertEquals(1, list.get(0));
+        assertEquals(42, list.get(42));
+        assertTrue(list.contains(5000));
+        assertFalse(list.contains(5001));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.appendAll(batch, 4999, 2));
+    }
+
+    @Test
+    void testExtremeValues() {
+        SortedIntList list = new SortedIntList();
+        list.append(Integer.MAX_VALUE);
+        list.append(Integer.MIN_VALUE);
+        list.append(0);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, list.toArray());
+        assertTrue(list.contains(Integer.MIN_VALUE));
+        assertTrue(list.contains(Integer.MAX_VALUE));
+        assertFalse(list.contains(1));
+        assertEquals(Integer.MAX_VALUE, list.parallelIntStream().max().getAsInt());
+    }
+
+    @Test
+    void testStreamIsUnaffectedByLaterAppends() {
+        SortedIntList list = new SortedIntList();
+        list.append(5);
+        list.append(3);
+        PrimitiveIterator.OfInt it = list.intStream().iterator();
+        assertEquals(3, it.nextInt());
+        list.append(1);
+        assertEquals(1, list.get(0)); // merges 1 into the front of the sorted array
+        assertEquals(5, it.nextInt());
+        assertFalse(it.hasNext());
+    }
+}
@@ -0,0 +1,42 @@
+package lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnrolledIntLinkedListTest extends AbstractIntListTest {
+
+    @Override
+    protected IntList createList() {
+        return new UnrolledIntLinkedList();
+    }
+
+    @Test
+    void testInsertMatchesArrayList() {
+        UnrolledIntLinkedList list = new UnrolledIntLinkedList();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            list.insert(index, i);
+            expected.add(index, i);
+        }
+        assertEquals(expected.size(), list.length());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i), "Value at index " + i);
+        }
+        list.append(-5);
+        assertEquals(-5, list.get(list.length() - 1), "Append after inserts should go to the tail");
+    }
+
+    @Test
+    void testInsertOutOfBounds() {
+        UnrolledIntLinkedList list = new UnrolledIntLinkedList();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(-1, 0));
+    }
+}